@@ -0,0 +1,97 @@
+package org.blacksmith.commons.tree;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Readers traversing the tree while writers add and remove leaves: {@link ConcurrentTreeNode} against
+ * {@link BTreeNode} guarded by a single {@link ReadWriteLock}.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ConcurrentTreeBenchmark {
+
+  private static final int TOTAL_COUNT = 10000;
+  private static final int CHILD_COUNT = 5;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private TreeNode<Integer> concurrentTree;
+  private List<TreeNode<Integer>> concurrentNodes;
+  private TreeNode<Integer> lockedTree;
+  private List<TreeNode<Integer>> lockedNodes;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    final TreeFactory<Integer> factory = new TreeFactory<>(TreeFactory.createIntegerSupplier());
+    concurrentTree = ConcurrentTreeNode.of(0);
+    factory.populateRegular(concurrentTree, TOTAL_COUNT, CHILD_COUNT);
+    concurrentNodes = concurrentTree.toList();
+    lockedTree = BTreeNode.of(0);
+    factory.populateRegular(lockedTree, TOTAL_COUNT, CHILD_COUNT);
+    lockedNodes = lockedTree.toList();
+  }
+
+  private static TreeNode<Integer> randomNode(List<TreeNode<Integer>> nodes) {
+    return nodes.get(ThreadLocalRandom.current().nextInt(nodes.size()));
+  }
+
+  @Benchmark
+  @Group("copyOnWrite")
+  @GroupThreads(3)
+  public int copyOnWriteRead() {
+    return concurrentTree.size();
+  }
+
+  @Benchmark
+  @Group("copyOnWrite")
+  @GroupThreads(1)
+  public TreeNode<Integer> copyOnWriteWrite() {
+    final TreeNode<Integer> parent = randomNode(concurrentNodes);
+    return parent.removeChild(parent.addChildWith(-1));
+  }
+
+  @Benchmark
+  @Group("readWriteLock")
+  @GroupThreads(3)
+  public int readWriteLockRead() {
+    lock.readLock().lock();
+    try {
+      return lockedTree.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Benchmark
+  @Group("readWriteLock")
+  @GroupThreads(1)
+  public TreeNode<Integer> readWriteLockWrite() {
+    final TreeNode<Integer> parent = randomNode(lockedNodes);
+    lock.writeLock().lock();
+    try {
+      return parent.removeChild(parent.addChildWith(-1));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+}
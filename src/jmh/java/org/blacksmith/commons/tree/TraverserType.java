@@ -3,6 +3,8 @@ package org.blacksmith.commons.tree;
 import java.util.function.Supplier;
 import org.blacksmith.commons.tree.TreeNode.TreeTraverser;
 import org.blacksmith.commons.tree.traverser.BreadthOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.IterativePostOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.ParallelTreeTraverser;
 import org.blacksmith.commons.tree.traverser.PostOrderTreeTraverser;
 import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser;
 import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser2;
@@ -11,9 +13,11 @@ import org.blacksmith.commons.tree.traverser.RevOrderTreeTraverser;
 public enum TraverserType {
   BreadthOrderTreeTraverser(() -> new BreadthOrderTreeTraverser()),
   PostOrderTreeTraverser(() -> new PostOrderTreeTraverser()),
+  IterativePostOrderTreeTraverser(() -> new IterativePostOrderTreeTraverser()),
   PreOrderTreeTraverser(() -> new PreOrderTreeTraverser()),
   PreOrderTreeTraverser2(() -> new PreOrderTreeTraverser2()),
-  RevOrderTreeTraverser(() -> new RevOrderTreeTraverser());
+  RevOrderTreeTraverser(() -> new RevOrderTreeTraverser()),
+  ParallelTreeTraverser(() -> new ParallelTreeTraverser(1000, true));
 
   private final Supplier<TreeTraverser> traverserSupplier;
 
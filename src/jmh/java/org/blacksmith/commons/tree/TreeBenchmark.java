@@ -2,6 +2,7 @@ package org.blacksmith.commons.tree;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import org.blacksmith.commons.tree.TreeNode.TreeTraverser;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -16,6 +17,11 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
+/**
+ * Run with {@code -prof gc} to compare allocations of traversers: {@code gc.alloc.rate.norm} of {@link #getData}
+ * shows e.g. the O(n) deques of {@code PostOrderTreeTraverser} against the reused frame stack of
+ * {@code IterativePostOrderTreeTraverser}, {@link #traverse} leaves out the result list.
+ */
 //@Slf4j
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.AverageTime)
@@ -49,6 +55,28 @@ public class TreeBenchmark {
     return data.tree.toDataList(data.traverser);
   }
 
+  @Benchmark
+  public int traverse(BenchmarkData data) {
+    final Counter counter = new Counter();
+    data.traverser.fullTraverse(data.tree, node -> counter.increment());
+    return counter.get();
+  }
+
+  @Benchmark
+  public int[] getPrimitiveData(PrimitiveBenchmarkData data) {
+    return data.primitiveTree.toDataArray();
+  }
+
+  @Benchmark
+  public List<TreeNode<Integer>> findBoxedData(PrimitiveBenchmarkData data) {
+    return data.tree.findDescendantsWith((Predicate<Integer>) d -> d % 7 == 0);
+  }
+
+  @Benchmark
+  public int[] findPrimitiveData(PrimitiveBenchmarkData data) {
+    return data.primitiveTree.findDescendantsWith(IntCompactTree.ROOT, d -> d % 7 == 0);
+  }
+
   @State(Scope.Benchmark)
   public static class BenchmarkData {
 
@@ -57,9 +85,11 @@ public class TreeBenchmark {
 
     @Param({"BreadthOrderTreeTraverser",
         "PostOrderTreeTraverser",
+        "IterativePostOrderTreeTraverser",
         "PreOrderTreeTraverser",
         "PreOrderTreeTraverser2",
-        "RevOrderTreeTraverser"})
+        "RevOrderTreeTraverser",
+        "ParallelTreeTraverser"})
     TraverserType traverserType;
 
     TreeNode<Integer> tree;
@@ -75,4 +105,24 @@ public class TreeBenchmark {
       this.traverser = traverserType.createTraverser();
     }
   }
+
+  @State(Scope.Benchmark)
+  public static class PrimitiveBenchmarkData {
+
+    @Param({"SMALL", "BIG"})
+    String size;
+
+    TreeNode<Integer> tree;
+    IntCompactTree primitiveTree;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      if (size.equals("SMALL")) {
+        this.tree = smallTree();
+      } else {
+        this.tree = bigTree();
+      }
+      this.primitiveTree = IntCompactTree.of(tree);
+    }
+  }
 }
@@ -0,0 +1,19 @@
+package org.blacksmith.commons.tree;
+
+import java.util.function.Function;
+
+public enum TreeImplementation {
+  BTreeNode(data -> new BTreeNode<>(data)),
+  CompactTree(data -> new CompactTree<>(data).getRoot()),
+  MeasuredTreeNode(data -> new MeasuredTreeNode<>(data));
+
+  private final Function<Integer, TreeNode<Integer>> rootSupplier;
+
+  TreeImplementation(Function<Integer, TreeNode<Integer>> rootSupplier) {
+    this.rootSupplier = rootSupplier;
+  }
+
+  public TreeNode<Integer> createRoot(Integer data) {
+    return rootSupplier.apply(data);
+  }
+}
@@ -0,0 +1,128 @@
+package org.blacksmith.commons.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares LCA and k-th ancestor queries of {@link TreeQueries} with walking {@link TreeNode#getParent()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TreeQueriesBenchmark {
+
+  private static final int PAIRS = 1024;
+
+  private static TreeNode<Integer> naiveLca(TreeNode<Integer> u, TreeNode<Integer> v) {
+    int du = depth(u);
+    int dv = depth(v);
+    while (du > dv) {
+      u = u.getParent();
+      --du;
+    }
+    while (dv > du) {
+      v = v.getParent();
+      --dv;
+    }
+    while (u != v) {
+      u = u.getParent();
+      v = v.getParent();
+    }
+    return u;
+  }
+
+  private static int depth(TreeNode<Integer> node) {
+    int depth = 0;
+    for (TreeNode<Integer> n = node.getParent(); n != null; n = n.getParent()) {
+      ++depth;
+    }
+    return depth;
+  }
+
+  @Benchmark
+  public TreeNode<Integer> lcaQueries(BenchmarkData data) {
+    final int i = data.next();
+    return data.queries.lowestCommonAncestor(data.left[i], data.right[i]);
+  }
+
+  @Benchmark
+  public TreeNode<Integer> lcaParentWalk(BenchmarkData data) {
+    final int i = data.next();
+    return naiveLca(data.left[i], data.right[i]);
+  }
+
+  @Benchmark
+  public TreeNode<Integer> ancestorQueries(BenchmarkData data) {
+    final int i = data.next();
+    return data.queries.ancestor(data.left[i], 3);
+  }
+
+  @Benchmark
+  public TreeNode<Integer> ancestorParentWalk(BenchmarkData data) {
+    final int i = data.next();
+    TreeNode<Integer> n = data.left[i];
+    for (int k = 0; k < 3 && n != null; ++k) {
+      n = n.getParent();
+    }
+    return n;
+  }
+
+  @Benchmark
+  public TreeQueries<Integer> preprocess(BenchmarkData data) {
+    return TreeQueries.of(data.tree);
+  }
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkData {
+
+    @Param({"3", "10"})
+    int childCount;
+
+    @Param({"100000"})
+    int totalCount;
+
+    TreeNode<Integer> tree;
+    TreeQueries<Integer> queries;
+    TreeNode<Integer>[] left;
+    TreeNode<Integer>[] right;
+    int position;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setUp() {
+      this.tree = new BTreeNode<>(0);
+      new TreeFactory<>(TreeFactory.createIntegerSupplier()).populateRegular(tree, totalCount, childCount);
+      this.queries = TreeQueries.of(tree);
+      final List<TreeNode<Integer>> nodes = new ArrayList<>(tree.toList());
+      final Random random = new Random(1);
+      this.left = new TreeNode[PAIRS];
+      this.right = new TreeNode[PAIRS];
+      for (int i = 0; i < PAIRS; ++i) {
+        left[i] = nodes.get(random.nextInt(nodes.size()));
+        right[i] = nodes.get(random.nextInt(nodes.size()));
+      }
+    }
+
+    int next() {
+      position = (position + 1) & (PAIRS - 1);
+      return position;
+    }
+  }
+}
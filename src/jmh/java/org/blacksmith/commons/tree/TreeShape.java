@@ -0,0 +1,39 @@
+package org.blacksmith.commons.tree;
+
+/**
+ * Shapes generated by {@link TreeFactory}, seeded shapes are the same in every fork.
+ */
+public enum TreeShape {
+  REGULAR,
+  CHAIN,
+  FLAT,
+  POWER_LAW,
+  RANDOM;
+
+  private static final long SEED = 20210601L;
+
+  public TreeNode<Integer> create(int size) {
+    final BTreeNode<Integer> root = new BTreeNode<>(0);
+    final TreeFactory<Integer> factory = new TreeFactory<>(TreeFactory.createIntegerSupplier());
+    switch (this) {
+      case REGULAR:
+        factory.populateTotal(root, size, 3);
+        break;
+      case CHAIN:
+        factory.populateChain(root, size);
+        break;
+      case FLAT:
+        factory.populateFlat(root, size);
+        break;
+      case POWER_LAW:
+        factory.populatePowerLaw(root, size, SEED);
+        break;
+      case RANDOM:
+        factory.populateRandom(root, size, SEED);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported shape: " + this);
+    }
+    return root;
+  }
+}
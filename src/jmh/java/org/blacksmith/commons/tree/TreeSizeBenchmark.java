@@ -1,7 +1,7 @@
 package org.blacksmith.commons.tree;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
-import org.blacksmith.commons.tree.TreeNode.TreeTraverser;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -15,6 +15,10 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
+/**
+ * Run with {@code -prof gc} to compare footprint: {@code gc.alloc.rate.norm} of {@link #build} is the size of the
+ * whole tree in bytes.
+ */
 //@Slf4j
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.AverageTime)
@@ -24,8 +28,8 @@ import org.openjdk.jmh.annotations.Warmup;
 @Measurement(iterations = 5)
 public class TreeSizeBenchmark {
 
-  private static TreeNode<Integer> smallTree() {
-    BTreeNode<Integer> root = new BTreeNode<>(1);
+  private static TreeNode<Integer> smallTree(TreeImplementation implementation) {
+    TreeNode<Integer> root = implementation.createRoot(1);
     final TreeNode<Integer> node2 = root.addChildWith(2);
     node2.addChildWith(4);
     node2.addChildWith(5);
@@ -37,40 +41,57 @@ public class TreeSizeBenchmark {
     return root;
   }
 
-  private static TreeNode<Integer> bigTree(int totalCount, int childCount) {
-    BTreeNode<Integer> root = new BTreeNode<>(0);
-    new TreeFactory(TreeFactory.createIntegerSupplier()).populateTotal(root, totalCount, childCount);
+  private static TreeNode<Integer> bigTree(TreeImplementation implementation, int totalCount, int childCount) {
+    TreeNode<Integer> root = implementation.createRoot(0);
+    new TreeFactory<>(TreeFactory.createIntegerSupplier()).populateTotal(root, totalCount, childCount);
     return root;
   }
 
+  private static TreeNode<Integer> createTree(TreeImplementation implementation, String size) {
+    if (size.equals("SMALL")) {
+      return smallTree(implementation);
+    }
+    else if (size.equals("BIG3")) {
+      return bigTree(implementation, 50000, 3);
+    }
+    else if (size.equals("BIG10")) {
+      return bigTree(implementation, 50000, 10);
+    }
+    else {
+      return null;
+    }
+  }
+
   @Benchmark
   public int getSize(BenchmarkData data) {
     int size = data.tree.size();
     return size;
   }
 
+  @Benchmark
+  public List<Integer> getData(BenchmarkData data) {
+    return data.tree.toDataList();
+  }
+
+  @Benchmark
+  public TreeNode<Integer> build(BenchmarkData data) {
+    return createTree(data.implementation, data.size);
+  }
+
   @State(Scope.Benchmark)
   public static class BenchmarkData {
 
     @Param({"SMALL", "BIG3", "BIG10"})
     String size;
 
+    @Param({"BTreeNode", "CompactTree", "MeasuredTreeNode"})
+    TreeImplementation implementation;
+
     TreeNode<Integer> tree;
 
     @Setup(Level.Trial)
     public void setUp() {
-      if (size.equals("SMALL")) {
-        this.tree = smallTree();
-      }
-      else if (size.equals("BIG3")) {
-        this.tree = bigTree(50000, 3);
-      }
-      else if (size.equals("BIG10")) {
-        this.tree = bigTree(50000, 10);
-      }
-      else {
-        this.tree = null;
-      }
+      this.tree = createTree(implementation, size);
     }
   }
 }
@@ -0,0 +1,117 @@
+package org.blacksmith.commons.tree;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.blacksmith.commons.tree.TreeNode.TreeTraverser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Traversals, searches, size and mutations over generated {@link TreeShape}s. Only traversers which don't recurse are
+ * measured, a chain of 100000 nodes overflows the stack of {@code PreOrderTreeTraverser2} and
+ * {@code RevOrderTreeTraverser} (they are measured on small trees by {@link TreeBenchmark}).
+ * <p>
+ * Default sizes run with the default heap. Trees of 10M nodes need a few GB, run them with e.g.
+ * {@code -p size=10000000 -jvmArgsAppend -Xmx8g}; select a subset with e.g. {@code -p shape=CHAIN -p size=100000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TreeWorkloadBenchmark {
+
+  @Benchmark
+  public int traverse(TraverserData data) {
+    final Counter counter = new Counter();
+    data.traverser.fullTraverse(data.shape.tree, node -> counter.increment());
+    return counter.get();
+  }
+
+  @Benchmark
+  public List<Integer> getData(TraverserData data) {
+    return data.shape.tree.toDataList(data.traverser);
+  }
+
+  @Benchmark
+  public int size(ShapeData data) {
+    return data.tree.size();
+  }
+
+  @Benchmark
+  public boolean containsMissing(ShapeData data) {
+    return data.tree.contains(-1);
+  }
+
+  @Benchmark
+  public TreeNode<Integer> findDescendantWith(ShapeData data) {
+    return data.tree.findDescendantWith(data.last.getData());
+  }
+
+  @Benchmark
+  public List<TreeNode<Integer>> findDescendantsWith(ShapeData data) {
+    return data.tree.findDescendantsWith((Predicate<Integer>) d -> d % 7 == 0);
+  }
+
+  @Benchmark
+  public TreeNode<Integer> addRemoveChild(ShapeData data) {
+    final TreeNode<Integer> child = data.last.addChildWith(-1);
+    return data.last.removeChild(child);
+  }
+
+  @Benchmark
+  public TreeNode<Integer> build(ShapeData data) {
+    return data.shape.create(data.size);
+  }
+
+  @State(Scope.Benchmark)
+  public static class ShapeData {
+
+    @Param({"REGULAR", "CHAIN", "FLAT", "POWER_LAW", "RANDOM"})
+    TreeShape shape;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    TreeNode<Integer> tree;
+    TreeNode<Integer> last;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      this.tree = shape.create(size);
+      this.last = tree.findDescendantWith(size);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class TraverserData {
+
+    @Param({"PreOrderTreeTraverser",
+        "PostOrderTreeTraverser",
+        "IterativePostOrderTreeTraverser",
+        "BreadthOrderTreeTraverser",
+        "ParallelTreeTraverser"})
+    TraverserType traverserType;
+
+    TreeTraverser traverser;
+    ShapeData shape;
+
+    @Setup(Level.Trial)
+    public void setUp(ShapeData shape) {
+      this.shape = shape;
+      this.traverser = traverserType.createTraverser();
+    }
+  }
+}
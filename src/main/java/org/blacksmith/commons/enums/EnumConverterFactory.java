@@ -1,6 +1,7 @@
 package org.blacksmith.commons.enums;
 
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 public class EnumConverterFactory {
 
@@ -13,4 +14,8 @@ public class EnumConverterFactory {
       return EnumValueConverter.of(enumType, valueExtractor);
     }
   }
+
+  public static <E extends Enum<E>> IntEnumConverter<E> ofInt(Class<E> enumType, ToIntFunction<E> codeExtractor) {
+    return IntEnumConverter.of(enumType, codeExtractor);
+  }
 }
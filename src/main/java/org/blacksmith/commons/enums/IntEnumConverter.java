@@ -0,0 +1,103 @@
+package org.blacksmith.commons.enums;
+
+import java.util.function.ToIntFunction;
+import org.blacksmith.commons.arg.ArgChecker;
+
+/**
+ * Converter of {@code int} (and {@code short}) codes without boxing. Small dense codes are looked up directly in an
+ * array indexed by {@code code - minCode}, sparse codes in an open-addressing table of primitive keys.
+ */
+public class IntEnumConverter<E extends Enum<E>> implements EnumConverter<Integer, E> {
+
+  private static final int MIN_DENSE_SIZE = 64;
+
+  private final Class<E> enumClass;
+  private final E[] table;
+  private final int minCode;
+  private final int[] keys;
+  private final int mask;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public IntEnumConverter(Class<E> enumClass, ToIntFunction<E> codeExtractor) {
+    this.enumClass = enumClass;
+    final E[] constants = enumClass.getEnumConstants();
+    final int[] codes = new int[constants.length];
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    for (int i = 0; i < constants.length; ++i) {
+      codes[i] = codeExtractor.applyAsInt(constants[i]);
+      min = Math.min(min, codes[i]);
+      max = Math.max(max, codes[i]);
+    }
+    final long span = constants.length == 0 ? 0 : (long) max - min + 1;
+    if (span <= Math.max(MIN_DENSE_SIZE, 4L * constants.length)) {
+      this.minCode = min;
+      this.table = (E[]) new Enum[(int) span];
+      this.keys = null;
+      this.mask = 0;
+      for (int i = 0; i < constants.length; ++i) {
+        final int index = codes[i] - min;
+        checkUnique(table[index], constants[i], codes[i]);
+        table[index] = constants[i];
+      }
+    } else {
+      final int capacity = Integer.highestOneBit(constants.length * 2 - 1) << 1;
+      this.minCode = 0;
+      this.table = (E[]) new Enum[capacity];
+      this.keys = new int[capacity];
+      this.mask = capacity - 1;
+      for (int i = 0; i < constants.length; ++i) {
+        int slot = hash(codes[i]) & mask;
+        while (table[slot] != null && keys[slot] != codes[i]) {
+          slot = (slot + 1) & mask;
+        }
+        checkUnique(table[slot], constants[i], codes[i]);
+        keys[slot] = codes[i];
+        table[slot] = constants[i];
+      }
+    }
+  }
+
+  public static <E extends Enum<E>> IntEnumConverter<E> of(Class<E> enumType, ToIntFunction<E> codeExtractor) {
+    return new IntEnumConverter<>(enumType, codeExtractor);
+  }
+
+  private static int hash(int code) {
+    final int h = code * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  private static void checkUnique(Enum<?> existing, Enum<?> constant, int code) {
+    if (existing != null) {
+      throw new IllegalArgumentException("Duplicate code " + code + " of " + existing + " and " + constant);
+    }
+  }
+
+  public E convert(int code) {
+    if (keys == null) {
+      final int index = code - minCode;
+      if (index >= 0 && index < table.length) {
+        final E result = table[index];
+        if (result != null) {
+          return result;
+        }
+      }
+    } else {
+      int slot = hash(code) & mask;
+      E result;
+      while ((result = table[slot]) != null) {
+        if (keys[slot] == code) {
+          return result;
+        }
+        slot = (slot + 1) & mask;
+      }
+    }
+    throw new EnumConversionException(enumClass, code);
+  }
+
+  @Override
+  public E convert(Integer value) {
+    ArgChecker.notNull(value);
+    return convert(value.intValue());
+  }
+}
@@ -0,0 +1,225 @@
+package org.blacksmith.commons.tree;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Tree structure kept in parallel int arrays (parent, first child, last child, next sibling, previous sibling).
+ * Nodes are addressed by index, the root is always {@code 0}. Subclasses keep the payload in their own array.
+ */
+public abstract class AbstractCompactTree {
+
+  public static final int NO_NODE = -1;
+  public static final int ROOT = 0;
+  protected static final int DEFAULT_CAPACITY = 16;
+
+  private int[] parent;
+  private int[] firstChild;
+  private int[] lastChild;
+  private int[] nextSibling;
+  private int[] prevSibling;
+  private int size;
+
+  protected AbstractCompactTree(int capacity) {
+    capacity = Math.max(capacity, 1);
+    this.parent = new int[capacity];
+    this.firstChild = new int[capacity];
+    this.lastChild = new int[capacity];
+    this.nextSibling = new int[capacity];
+    this.prevSibling = new int[capacity];
+  }
+
+  protected abstract void growData(int capacity);
+
+  protected int allocate(int parentIndex) {
+    if (parentIndex != NO_NODE) {
+      checkIndex(parentIndex);
+    }
+    if (size == parent.length) {
+      grow(size + (size >> 1) + 1);
+    }
+    int index = size++;
+    parent[index] = NO_NODE;
+    firstChild[index] = NO_NODE;
+    lastChild[index] = NO_NODE;
+    nextSibling[index] = NO_NODE;
+    prevSibling[index] = NO_NODE;
+    if (parentIndex != NO_NODE) {
+      link(parentIndex, index);
+    }
+    return index;
+  }
+
+  /**
+   * Copies children of {@code source} (recursively) under node {@code index}, in pre-order, so every subtree occupies
+   * a contiguous range of slots. {@code dataSetter} receives payload and index of every allocated node.
+   */
+  protected <T> void copyChildren(TreeNode<T> source, int index, ObjIntConsumer<T> dataSetter) {
+    final Deque<TreeNode<T>> dq = new ArrayDeque<>();
+    int[] parents = new int[DEFAULT_CAPACITY];
+    int top = 0;
+    dq.add(source);
+    parents[top++] = index;
+    TreeNode<T> n;
+    while ((n = dq.pollLast()) != null) {
+      int parentIndex = parents[--top];
+      int added = parentIndex;
+      if (n != source) {
+        added = allocate(parentIndex);
+        dataSetter.accept(n.getData(), added);
+      }
+      final List<TreeNode<T>> children = n.getChildren();
+      for (int i = children.size() - 1; i >= 0; --i) {
+        dq.add(children.get(i));
+        if (top == parents.length) {
+          parents = Arrays.copyOf(parents, top << 1);
+        }
+        parents[top++] = added;
+      }
+    }
+  }
+
+  private void grow(int capacity) {
+    parent = Arrays.copyOf(parent, capacity);
+    firstChild = Arrays.copyOf(firstChild, capacity);
+    lastChild = Arrays.copyOf(lastChild, capacity);
+    nextSibling = Arrays.copyOf(nextSibling, capacity);
+    prevSibling = Arrays.copyOf(prevSibling, capacity);
+    growData(capacity);
+  }
+
+  public void ensureCapacity(int capacity) {
+    if (capacity > parent.length) {
+      grow(capacity);
+    }
+  }
+
+  private void link(int parentIndex, int index) {
+    int last = lastChild[parentIndex];
+    parent[index] = parentIndex;
+    prevSibling[index] = last;
+    if (last == NO_NODE) {
+      firstChild[parentIndex] = index;
+    } else {
+      nextSibling[last] = index;
+    }
+    lastChild[parentIndex] = index;
+  }
+
+  /**
+   * Unlinks node from its parent. Slots of the detached subtree are not reclaimed.
+   */
+  public void detach(int index) {
+    checkIndex(index);
+    int parentIndex = parent[index];
+    if (parentIndex == NO_NODE) {
+      return;
+    }
+    int prev = prevSibling[index];
+    int next = nextSibling[index];
+    if (prev == NO_NODE) {
+      firstChild[parentIndex] = next;
+    } else {
+      nextSibling[prev] = next;
+    }
+    if (next == NO_NODE) {
+      lastChild[parentIndex] = prev;
+    } else {
+      prevSibling[next] = prev;
+    }
+    parent[index] = NO_NODE;
+    prevSibling[index] = NO_NODE;
+    nextSibling[index] = NO_NODE;
+  }
+
+  /**
+   * Number of allocated nodes, including nodes of detached subtrees.
+   */
+  public int size() {
+    return size;
+  }
+
+  public int getParent(int index) {
+    return parent[index];
+  }
+
+  public int getFirstChild(int index) {
+    return firstChild[index];
+  }
+
+  public int getLastChild(int index) {
+    return lastChild[index];
+  }
+
+  public int getNextSibling(int index) {
+    return nextSibling[index];
+  }
+
+  public int getPrevSibling(int index) {
+    return prevSibling[index];
+  }
+
+  public boolean hasChildren(int index) {
+    return firstChild[index] != NO_NODE;
+  }
+
+  public int getChildCount(int index) {
+    int count = 0;
+    for (int child = firstChild[index]; child != NO_NODE; child = nextSibling[child]) {
+      ++count;
+    }
+    return count;
+  }
+
+  public int subtreeSize(int index) {
+    final int[] count = new int[1];
+    traverse(index, node -> ++count[0]);
+    return count[0];
+  }
+
+  public boolean isDescendantOf(int index, int ancestor) {
+    for (int p = parent[index]; p != NO_NODE; p = parent[p]) {
+      if (p == ancestor) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Pre-order traversal of the subtree starting at {@code index}. Uses the parent/sibling links only, so it needs no
+   * stack.
+   */
+  public void traverse(int index, IntConsumer consumer) {
+    checkIndex(index);
+    int node = index;
+    while (node != NO_NODE) {
+      consumer.accept(node);
+      node = nextPreOrder(node, index, true);
+    }
+  }
+
+  /**
+   * Returns node following {@code node} in pre-order within subtree of {@code start}, or {@link #NO_NODE} at the end
+   * of the subtree. Children of {@code node} are skipped when {@code descend} is {@code false}.
+   */
+  protected int nextPreOrder(int node, int start, boolean descend) {
+    if (descend && firstChild[node] != NO_NODE) {
+      return firstChild[node];
+    }
+    while (node != start && nextSibling[node] == NO_NODE) {
+      node = parent[node];
+    }
+    return node == start ? NO_NODE : nextSibling[node];
+  }
+
+  protected void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Node index " + index + " out of bounds for size " + size);
+    }
+  }
+}
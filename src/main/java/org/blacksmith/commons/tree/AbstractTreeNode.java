@@ -0,0 +1,205 @@
+package org.blacksmith.commons.tree;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser;
+
+/**
+ * Base class for {@link TreeNode} implementations which are views over some other storage (arrays, buffers,
+ * snapshots). Node views may be created on demand, so node identity is based on {@link #equals(Object)} instead of
+ * reference comparison. All structure modifications are unsupported unless overridden.
+ */
+public abstract class AbstractTreeNode<T> implements TreeNode<T> {
+
+  protected static final TreeNode.TreeTraverser TRAVERSER = new PreOrderTreeTraverser();
+
+  @Override
+  public void setData(T data) {
+    throw new UnsupportedOperationException("setData");
+  }
+
+  @Override
+  public void setParent(TreeNode<T> parent) {
+    throw new UnsupportedOperationException("setParent");
+  }
+
+  @Override
+  public TreeNode<T> addChild(TreeNode<T> child) {
+    throw new UnsupportedOperationException("addChild");
+  }
+
+  @Override
+  public TreeNode<T> removeChild(TreeNode<T> child) {
+    throw new UnsupportedOperationException("removeChild");
+  }
+
+  @Override
+  public TreeNode<T> addChildWith(T o) {
+    throw new UnsupportedOperationException("addChildWith");
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException("clear");
+  }
+
+  @Override
+  public TreeNode<T> removeDescendantWith(T o) {
+    var node = findDescendantWith(o);
+    if (node != null && node.getParent() != null) {
+      node.getParent().removeChild(node);
+    }
+    return node;
+  }
+
+  @Override
+  public List<TreeNode<T>> removeDescendantsWith(T o) {
+    var nodes = findTopDescendantsWith(o);
+    for (TreeNode<T> node : nodes) {
+      node.getParent().removeChild(node);
+    }
+    return nodes;
+  }
+
+  @Override
+  public boolean isParentOf(TreeNode<T> n) {
+    if (n == null) {
+      return false;
+    }
+    return this.equals(n.getParent());
+  }
+
+  @Override
+  public boolean isDescendantOf(TreeNode<T> node) {
+    if (node == null) {
+      return false;
+    }
+    TreeNode<T> parent = getParent();
+    while (parent != null) {
+      if (parent.equals(node)) {
+        return true;
+      }
+      parent = parent.getParent();
+    }
+    return false;
+  }
+
+  @Override
+  public boolean isChildOf(TreeNode<T> node) {
+    TreeNode<T> parent = getParent();
+    return parent != null && parent.equals(node);
+  }
+
+  @Override
+  public boolean isLeaf() {
+    return !isRoot() && getChildren().isEmpty();
+  }
+
+  @Override
+  public boolean isRoot() {
+    return getParent() == null;
+  }
+
+  @Override
+  public int size() {
+    final Counter counter = new Counter();
+    TRAVERSER.fullTraverse(this, node -> counter.increment());
+    return counter.get();
+  }
+
+  @Override
+  public boolean contains(T o) {
+    final Iterator<TreeNode<T>> it = iterator(TraverseOrder.PRE);
+    while (it.hasNext()) {
+      TreeNode<T> node = it.next();
+      if (Objects.equals(node.getData(), o)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the only node with given data, or {@code null} when there is none or more than one. Stops at the second
+   * match.
+   */
+  @Override
+  public TreeNode<T> findDescendantWith(final T o) {
+    TreeNode<T> found = null;
+    final Iterator<TreeNode<T>> it = iterator(TraverseOrder.PRE);
+    while (it.hasNext()) {
+      TreeNode<T> node = it.next();
+      if (Objects.equals(node.getData(), o)) {
+        if (found != null) {
+          return null;
+        }
+        found = node;
+      }
+    }
+    return found;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  @Override
+  public TreeNode<T>[] findDescendantsArrayWith(T o) {
+    return findDescendantsWith(o).toArray(new TreeNode[0]);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  @Override
+  public TreeNode<T>[] findDescendantsArrayWith(Predicate<T> p) {
+    return findDescendantsWith(p).toArray(new TreeNode[0]);
+  }
+
+  @Override
+  public List<TreeNode<T>> findDescendantsWith(T o) {
+    return findDescendantsWith((Predicate<T>) data -> Objects.equals(data, o));
+  }
+
+  @Override
+  public List<TreeNode<T>> findDescendantsWith(Predicate<T> p) {
+    return findDescendantsWith(p, TRAVERSER);
+  }
+
+  @Override
+  public List<TreeNode<T>> findTopDescendantsWith(T o) {
+    final List<TreeNode<T>> found = new ArrayList<>();
+    TRAVERSER.traverse(this, new NodeVisitor<T>() {
+      @Override
+      public void visit(TreeNode<T> node) {
+        if (Objects.equals(node.getData(), o)) {
+          found.add(node);
+        }
+      }
+
+      @Override
+      public boolean acceptChildren(TreeNode<T> node) {
+        return !Objects.equals(node.getData(), o);
+      }
+    });
+    return found;
+  }
+
+  @Override
+  public T[] toDataArray(T[] a) {
+    return toDataArray(a, TRAVERSER);
+  }
+
+  @Override
+  public Object[] toArray() {
+    return toArray(TRAVERSER);
+  }
+
+  @Override
+  public List<TreeNode<T>> toList() {
+    return toList(TRAVERSER);
+  }
+
+  @Override
+  public List<T> toDataList() {
+    return toDataList(TRAVERSER);
+  }
+}
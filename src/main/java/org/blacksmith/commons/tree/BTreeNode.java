@@ -1,7 +1,10 @@
 package org.blacksmith.commons.tree;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Predicate;
 import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser;
@@ -18,6 +21,16 @@ public class BTreeNode<T> implements TreeNode<T> {
     this.data = data;
   }
 
+  /**
+   * Creates a node with the children list presized for {@code childrenCapacity} children.
+   */
+  public BTreeNode(T data, int childrenCapacity) {
+    this.data = data;
+    if (childrenCapacity > 0) {
+      this.children = new ArrayList<>(childrenCapacity);
+    }
+  }
+
   public static <T> BTreeNode<T> of(T data) {
     return new BTreeNode<>(data);
   }
@@ -49,7 +62,7 @@ public class BTreeNode<T> implements TreeNode<T> {
 
   @Override
   public BTreeNode<T> addChild(TreeNode<T> child) {
-    if (children.isEmpty()) {
+    if (!(children instanceof ArrayList)) {
       children = new ArrayList<>();
     }
     child.setParent(this);
@@ -71,6 +84,55 @@ public class BTreeNode<T> implements TreeNode<T> {
     return addChild(new BTreeNode<>(o));
   }
 
+  @Override
+  public void ensureChildrenCapacity(int capacity) {
+    if (children instanceof ArrayList) {
+      ((ArrayList<TreeNode<T>>) children).ensureCapacity(capacity);
+    } else if (capacity > 0) {
+      children = new ArrayList<>(capacity);
+    }
+  }
+
+  /**
+   * Adds the child at the given position among the children of this node.
+   */
+  public BTreeNode<T> addChild(int index, TreeNode<T> child) {
+    checkPosition(index);
+    final BTreeNode<T> added = addChild(child);
+    moveLastChild(index);
+    return added;
+  }
+
+  /**
+   * Adds a child with given data at the given position among the children of this node.
+   */
+  public BTreeNode<T> addChildWith(int index, T o) {
+    checkPosition(index);
+    final BTreeNode<T> added = addChildWith(o);
+    moveLastChild(index);
+    return added;
+  }
+
+  private void checkPosition(int index) {
+    if (index < 0 || index > children.size()) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + children.size());
+    }
+  }
+
+  private void moveLastChild(int index) {
+    final int last = children.size() - 1;
+    if (index != last) {
+      children.add(index, children.remove(last));
+    }
+  }
+
+  /**
+   * Applies a patch created by {@link TreeDiff} for a tree equal to this one.
+   */
+  public void apply(TreeDiff.Patch<T, ?> patch) {
+    patch.applyTo(this);
+  }
+
   @Override
   public boolean isParentOf(TreeNode<T> n) {
     if (n == null) {
@@ -101,7 +163,14 @@ public class BTreeNode<T> implements TreeNode<T> {
 
   @Override
   public boolean contains(T o) {
-    return findDescendantWith(o) != null;
+    final Iterator<TreeNode<T>> it = iterator(TraverseOrder.PRE);
+    while (it.hasNext()) {
+      TreeNode<T> node = it.next();
+      if (node.getData().equals(o)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   @Override
@@ -123,10 +192,16 @@ public class BTreeNode<T> implements TreeNode<T> {
 
   @Override
   public int size() {
-    int size = 1;
-    List<TreeNode<T>> children = getChildren();
-    for (int i = 0; i < children.size(); ++i) {
-      size += children.get(i).size();
+    int size = 0;
+    final Deque<TreeNode<T>> dq = new ArrayDeque<>();
+    dq.add(this);
+    TreeNode<T> n;
+    while ((n = dq.pollLast()) != null) {
+      ++size;
+      final List<TreeNode<T>> children = n.getChildren();
+      for (int i = 0; i < children.size(); ++i) {
+        dq.add(children.get(i));
+      }
     }
     return size;
   }
@@ -151,15 +226,24 @@ public class BTreeNode<T> implements TreeNode<T> {
     return toDataList(TRAVERSER);
   }
 
-  @SuppressWarnings("unchecked")
+  /**
+   * Returns the only node with given data, or {@code null} when there is none or more than one. Stops at the second
+   * match.
+   */
   @Override
   public TreeNode<T> findDescendantWith(final T o) {
-    List<TreeNode<T>> descendants = findDescendantsWith(o);
-    if (descendants.size() == 1) {
-      return descendants.get(0);
-    } else {
-      return null;
+    TreeNode<T> found = null;
+    final Iterator<TreeNode<T>> it = iterator(TraverseOrder.PRE);
+    while (it.hasNext()) {
+      TreeNode<T> node = it.next();
+      if (node.getData().equals(o)) {
+        if (found != null) {
+          return null;
+        }
+        found = node;
+      }
     }
+    return found;
   }
 
   @Override
@@ -206,12 +290,6 @@ public class BTreeNode<T> implements TreeNode<T> {
 
   @Override
   public List<TreeNode<T>> findDescendantsWith(Predicate<T> p) {
-    final List<TreeNode<T>> found = new ArrayList<>();
-    TRAVERSER.fullTraverse(this, (node) -> {
-      if (p.test(node.getData())) {
-        found.add(node);
-      }
-    });
-    return found;
+    return findDescendantsWith(p, TRAVERSER);
   }
 }
@@ -0,0 +1,238 @@
+package org.blacksmith.commons.tree;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Array backed tree. Structure is kept in parallel int arrays and payload in a single {@code Object[]}, so a node
+ * costs a few array slots instead of an object with its own children list. {@link TreeNode} API is exposed through
+ * lightweight views created by {@link #getRoot()} and {@link #getNode(int)}, which makes the tree usable with every
+ * {@link TreeNode.TreeTraverser}.
+ */
+public class CompactTree<T> extends AbstractCompactTree {
+
+  private Object[] data;
+
+  public CompactTree(T rootData) {
+    this(rootData, DEFAULT_CAPACITY);
+  }
+
+  public CompactTree(T rootData, int capacity) {
+    super(capacity);
+    this.data = new Object[Math.max(capacity, 1)];
+    this.data[allocate(NO_NODE)] = rootData;
+  }
+
+  public static <T> CompactTree<T> of(TreeNode<T> root) {
+    CompactTree<T> tree = new CompactTree<>(root.getData());
+    tree.copyChildren(root, ROOT);
+    return tree;
+  }
+
+  private void copyChildren(TreeNode<T> source, int index) {
+    copyChildren(source, index, (value, added) -> data[added] = value);
+  }
+
+  @Override
+  protected void growData(int capacity) {
+    data = Arrays.copyOf(data, capacity);
+  }
+
+  public int add(int parentIndex, T value) {
+    int index = allocate(parentIndex);
+    data[index] = value;
+    return index;
+  }
+
+  @SuppressWarnings("unchecked")
+  public T getData(int index) {
+    checkIndex(index);
+    return (T) data[index];
+  }
+
+  public void setData(int index, T value) {
+    checkIndex(index);
+    data[index] = value;
+  }
+
+  public TreeNode<T> getRoot() {
+    return new Node(ROOT);
+  }
+
+  public TreeNode<T> getNode(int index) {
+    checkIndex(index);
+    return new Node(index);
+  }
+
+  private final class Node extends AbstractTreeNode<T> {
+
+    private final int index;
+
+    private Node(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public T getData() {
+      return CompactTree.this.getData(index);
+    }
+
+    @Override
+    public void setData(T value) {
+      CompactTree.this.setData(index, value);
+    }
+
+    @Override
+    public TreeNode<T> getParent() {
+      int parentIndex = CompactTree.this.getParent(index);
+      return parentIndex == NO_NODE ? null : new Node(parentIndex);
+    }
+
+    @Override
+    public List<TreeNode<T>> getChildren() {
+      return CompactTree.this.hasChildren(index) ? new ChildList(index) : List.of();
+    }
+
+    @Override
+    public boolean hasChildren() {
+      return CompactTree.this.hasChildren(index);
+    }
+
+    @Override
+    public boolean isLeaf() {
+      return CompactTree.this.getParent(index) != NO_NODE && !CompactTree.this.hasChildren(index);
+    }
+
+    @Override
+    public TreeNode<T> addChildWith(T o) {
+      return new Node(add(index, o));
+    }
+
+    /**
+     * Copies the subtree of {@code child} into this tree. Returned node is the copy, not the argument. A node of this
+     * tree is copied from a {@link FrozenTree} snapshot, so the node itself or its ancestors can be copied too.
+     */
+    @Override
+    public TreeNode<T> addChild(TreeNode<T> child) {
+      final TreeNode<T> source = child instanceof CompactTree.Node && ((Node) child).tree() == CompactTree.this
+          ? FrozenTree.of(child).getRoot() : child;
+      int added = add(index, source.getData());
+      copyChildren(source, added);
+      return new Node(added);
+    }
+
+    @Override
+    public TreeNode<T> removeChild(TreeNode<T> child) {
+      if (!isParentOf(child)) {
+        return null;
+      }
+      int childIndex = ((Node) child).index;
+      detach(childIndex);
+      return new Node(childIndex);
+    }
+
+    @Override
+    public void clear() {
+      int child;
+      while ((child = getFirstChild(index)) != NO_NODE) {
+        detach(child);
+      }
+      detach(index);
+      data[index] = null;
+    }
+
+    @Override
+    public boolean isParentOf(TreeNode<T> n) {
+      if (!(n instanceof CompactTree.Node)) {
+        return false;
+      }
+      Node node = (Node) n;
+      return node.tree() == CompactTree.this && CompactTree.this.getParent(node.index) == index;
+    }
+
+    @Override
+    public boolean isDescendantOf(TreeNode<T> n) {
+      if (!(n instanceof CompactTree.Node)) {
+        return false;
+      }
+      Node node = (Node) n;
+      return node.tree() == CompactTree.this && CompactTree.this.isDescendantOf(index, node.index);
+    }
+
+    @Override
+    public int size() {
+      return subtreeSize(index);
+    }
+
+    private CompactTree<T> tree() {
+      return CompactTree.this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CompactTree.Node)) {
+        return false;
+      }
+      Node node = (Node) o;
+      return node.index == index && node.tree() == CompactTree.this;
+    }
+
+    @Override
+    public int hashCode() {
+      return index;
+    }
+  }
+
+  /**
+   * Children of a node, resolved through the sibling links. Remembers the last position, so sequential access in
+   * either direction is O(1) per element.
+   */
+  private final class ChildList extends AbstractList<TreeNode<T>> implements RandomAccess {
+
+    private final int parentIndex;
+    private final int size;
+    private int cursorPosition;
+    private int cursorIndex;
+
+    private ChildList(int parentIndex) {
+      this.parentIndex = parentIndex;
+      this.size = getChildCount(parentIndex);
+      this.cursorPosition = 0;
+      this.cursorIndex = getFirstChild(parentIndex);
+    }
+
+    @Override
+    public TreeNode<T> get(int position) {
+      if (position < 0 || position >= size) {
+        throw new IndexOutOfBoundsException("Index " + position + " out of bounds for length " + size);
+      }
+      if (position == 0) {
+        cursorPosition = 0;
+        cursorIndex = getFirstChild(parentIndex);
+      } else if (position == size - 1) {
+        cursorPosition = position;
+        cursorIndex = getLastChild(parentIndex);
+      }
+      while (cursorPosition < position) {
+        cursorIndex = getNextSibling(cursorIndex);
+        ++cursorPosition;
+      }
+      while (cursorPosition > position) {
+        cursorIndex = getPrevSibling(cursorIndex);
+        --cursorPosition;
+      }
+      return new Node(cursorIndex);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
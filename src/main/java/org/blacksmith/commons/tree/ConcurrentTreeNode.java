@@ -0,0 +1,131 @@
+package org.blacksmith.commons.tree;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Thread-safe tree node with copy-on-write children arrays. Readers never lock: {@link #getChildren()} returns an
+ * immutable snapshot of the children, so traversals run concurrently with modifications and see every node in some
+ * consistent state (not necessarily the whole tree at a single point in time). Writers lock only the node whose
+ * children they change, so writers of disjoint subtrees don't block each other.
+ * <p>
+ * A node can have only one parent: {@link #addChild} detaches the child from its previous parent first and fails
+ * with {@link IllegalStateException} if another thread attaches it meanwhile.
+ */
+public class ConcurrentTreeNode<T> extends AbstractTreeNode<T> {
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<ConcurrentTreeNode, ConcurrentTreeNode> PARENT =
+      AtomicReferenceFieldUpdater.newUpdater(ConcurrentTreeNode.class, ConcurrentTreeNode.class, "parent");
+  private static final TreeNode<?>[] NO_CHILDREN = new TreeNode<?>[0];
+
+  private volatile T data;
+  private volatile ConcurrentTreeNode<T> parent;
+  @SuppressWarnings("unchecked")
+  private volatile TreeNode<T>[] children = (TreeNode<T>[]) NO_CHILDREN;
+
+  public ConcurrentTreeNode(T data) {
+    this.data = data;
+  }
+
+  public static <T> ConcurrentTreeNode<T> of(T data) {
+    return new ConcurrentTreeNode<>(data);
+  }
+
+  @Override
+  public T getData() {
+    return data;
+  }
+
+  @Override
+  public void setData(T data) {
+    this.data = data;
+  }
+
+  @Override
+  public ConcurrentTreeNode<T> getParent() {
+    return parent;
+  }
+
+  @Override
+  public List<TreeNode<T>> getChildren() {
+    final TreeNode<T>[] snapshot = children;
+    return snapshot.length == 0 ? List.of() : Collections.unmodifiableList(Arrays.asList(snapshot));
+  }
+
+  @Override
+  public boolean hasChildren() {
+    return children.length > 0;
+  }
+
+  @Override
+  public ConcurrentTreeNode<T> addChild(TreeNode<T> child) {
+    if (!(child instanceof ConcurrentTreeNode)) {
+      throw new IllegalArgumentException("Child must be a ConcurrentTreeNode");
+    }
+    final ConcurrentTreeNode<T> node = (ConcurrentTreeNode<T>) child;
+    final ConcurrentTreeNode<T> oldParent = node.parent;
+    if (oldParent != null) {
+      oldParent.removeChild(node);
+    }
+    synchronized (this) {
+      if (!PARENT.compareAndSet(node, null, this)) {
+        throw new IllegalStateException("Node has been attached to another parent");
+      }
+      final TreeNode<T>[] current = children;
+      final TreeNode<T>[] updated = Arrays.copyOf(current, current.length + 1);
+      updated[current.length] = node;
+      children = updated;
+    }
+    return node;
+  }
+
+  @Override
+  public ConcurrentTreeNode<T> addChildWith(T o) {
+    return addChild(new ConcurrentTreeNode<>(o));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public synchronized ConcurrentTreeNode<T> removeChild(TreeNode<T> child) {
+    final TreeNode<T>[] current = children;
+    for (int i = 0; i < current.length; ++i) {
+      if (current[i] == child) {
+        final TreeNode<T>[] updated = (TreeNode<T>[]) new TreeNode<?>[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, i);
+        System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+        children = updated;
+        final ConcurrentTreeNode<T> node = (ConcurrentTreeNode<T>) child;
+        node.parent = null;
+        return node;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Detaches the node from its parent, drops its children and data.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public void clear() {
+    final ConcurrentTreeNode<T> oldParent = parent;
+    if (oldParent != null) {
+      oldParent.removeChild(this);
+    }
+    synchronized (this) {
+      for (TreeNode<T> child : children) {
+        ((ConcurrentTreeNode<T>) child).parent = null;
+      }
+      children = (TreeNode<T>[]) NO_CHILDREN;
+      data = null;
+    }
+  }
+
+  @Override
+  public boolean isRoot() {
+    return parent == null;
+  }
+}
@@ -0,0 +1,122 @@
+package org.blacksmith.commons.tree;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Subtree sums of {@code double} node values. Changes are propagated as deltas along the parent chain, O(depth),
+ * without reading siblings. Deltas may accumulate rounding errors, {@link #recompute()} sums the tree again.
+ *
+ * @see TreeAggregator
+ */
+public final class DoubleTreeAggregator<T> {
+
+  private final TreeNode<T> root;
+  private final ToDoubleFunction<T> mapper;
+  private final Map<TreeNode<T>, Sum> sums = new HashMap<>();
+
+  private DoubleTreeAggregator(TreeNode<T> root, ToDoubleFunction<T> mapper) {
+    this.root = root;
+    this.mapper = mapper;
+    computeSubtree(root);
+  }
+
+  public static <T> DoubleTreeAggregator<T> of(TreeNode<T> root, ToDoubleFunction<T> mapper) {
+    return new DoubleTreeAggregator<>(root, mapper);
+  }
+
+  public TreeNode<T> getRoot() {
+    return root;
+  }
+
+  public double get(TreeNode<T> node) {
+    return sum(node).total;
+  }
+
+  public double get() {
+    return sums.get(root).total;
+  }
+
+  public void dataChanged(TreeNode<T> node) {
+    final Sum sum = sum(node);
+    final double value = mapper.applyAsDouble(node.getData());
+    final double delta = value - sum.value;
+    sum.value = value;
+    sum.total += delta;
+    propagate(node.getParent(), node, delta);
+  }
+
+  /**
+   * Computes sums of the added subtree and adds its total to the ancestors.
+   */
+  public void childAdded(TreeNode<T> child) {
+    propagate(child.getParent(), null, computeSubtree(child));
+  }
+
+  /**
+   * Drops sums of the removed subtree and subtracts its total from the former ancestors.
+   */
+  public void childRemoved(TreeNode<T> parent, TreeNode<T> child) {
+    final double total = sum(child).total;
+    final List<TreeNode<T>> removed = child.toList();
+    for (int i = 0; i < removed.size(); ++i) {
+      sums.remove(removed.get(i));
+    }
+    propagate(parent, null, -total);
+  }
+
+  /**
+   * Recomputes the whole tree.
+   */
+  public void recompute() {
+    sums.clear();
+    computeSubtree(root);
+  }
+
+  private void propagate(TreeNode<T> from, TreeNode<T> changed, double delta) {
+    if (changed == root) {
+      return;
+    }
+    for (TreeNode<T> n = from; n != null; n = n.getParent()) {
+      sums.get(n).total += delta;
+      if (n == root) {
+        break;
+      }
+    }
+  }
+
+  private double computeSubtree(TreeNode<T> node) {
+    final FrozenTree<T> tree = FrozenTree.of(node);
+    final Sum[] computed = new Sum[tree.size()];
+    for (int i = tree.size() - 1; i >= 0; --i) {
+      final Sum sum = new Sum(mapper.applyAsDouble(tree.getData(i)));
+      for (int child = i + 1; child <= tree.getEnd(i); child = tree.getEnd(child) + 1) {
+        sum.total += computed[child].total;
+      }
+      computed[i] = sum;
+      sums.put(tree.getSource(i), sum);
+    }
+    return computed[0].total;
+  }
+
+  private Sum sum(TreeNode<T> node) {
+    final Sum sum = sums.get(node);
+    if (sum == null) {
+      throw new IllegalArgumentException("Node doesn't belong to the tree");
+    }
+    return sum;
+  }
+
+  private static final class Sum {
+
+    private double value;
+    private double total;
+
+    private Sum(double value) {
+      this.value = value;
+      this.total = value;
+    }
+  }
+}
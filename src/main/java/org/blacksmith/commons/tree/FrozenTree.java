@@ -0,0 +1,289 @@
+package org.blacksmith.commons.tree;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Immutable snapshot of a tree with nodes stored in pre-order. Every node gets an interval label: its own index and
+ * the index of its last descendant ({@link #getEnd(int)}), so descendants of a node are the contiguous range
+ * {@code (index, end]} and ancestor checks are O(1) range checks.
+ * <p>
+ * The snapshot doesn't follow changes of the source tree, {@link #rebuild()} creates a new one in O(n).
+ */
+public final class FrozenTree<T> {
+
+  public static final int NO_NODE = -1;
+
+  private final TreeNode<T> sourceRoot;
+  private final TreeNode<T>[] sources;
+  private final Object[] data;
+  private final int[] parent;
+  private final int[] end;
+  private final int[] depth;
+  private final Map<TreeNode<T>, Integer> sourceIndex;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private FrozenTree(TreeNode<T> sourceRoot) {
+    this.sourceRoot = sourceRoot;
+    final List<TreeNode<T>> nodes = new ArrayList<>();
+    int[] parents = new int[16];
+    final Deque<TreeNode<T>> dq = new ArrayDeque<>();
+    int[] parentStack = new int[16];
+    dq.add(sourceRoot);
+    parentStack[0] = NO_NODE;
+    TreeNode<T> n;
+    while ((n = dq.pollLast()) != null) {
+      int index = nodes.size();
+      nodes.add(n);
+      if (index == parents.length) {
+        parents = Arrays.copyOf(parents, index << 1);
+      }
+      parents[index] = parentStack[dq.size()];
+      final List<TreeNode<T>> children = n.getChildren();
+      if (dq.size() + children.size() > parentStack.length) {
+        parentStack = Arrays.copyOf(parentStack, Math.max(parentStack.length << 1, dq.size() + children.size()));
+      }
+      for (int i = children.size() - 1; i >= 0; --i) {
+        parentStack[dq.size()] = index;
+        dq.add(children.get(i));
+      }
+    }
+    final int size = nodes.size();
+    this.sources = nodes.toArray(new TreeNode[0]);
+    this.parent = Arrays.copyOf(parents, size);
+    this.data = new Object[size];
+    this.depth = new int[size];
+    this.end = new int[size];
+    this.sourceIndex = new HashMap<>(size * 4 / 3 + 1);
+    for (int i = 0; i < size; ++i) {
+      data[i] = sources[i].getData();
+      sourceIndex.put(sources[i], i);
+      depth[i] = parent[i] == NO_NODE ? 0 : depth[parent[i]] + 1;
+      end[i] = i;
+    }
+    for (int i = size - 1; i > 0; --i) {
+      int p = parent[i];
+      if (end[i] > end[p]) {
+        end[p] = end[i];
+      }
+    }
+  }
+
+  public static <T> FrozenTree<T> of(TreeNode<T> root) {
+    return new FrozenTree<>(root);
+  }
+
+  /**
+   * Creates a new snapshot of the same source tree.
+   */
+  public FrozenTree<T> rebuild() {
+    return new FrozenTree<>(sourceRoot);
+  }
+
+  public int size() {
+    return data.length;
+  }
+
+  @SuppressWarnings("unchecked")
+  public T getData(int index) {
+    return (T) data[index];
+  }
+
+  public int getParent(int index) {
+    return parent[index];
+  }
+
+  public int getDepth(int index) {
+    return depth[index];
+  }
+
+  /**
+   * Index of the last descendant of the node in pre-order (the node itself for a leaf).
+   */
+  public int getEnd(int index) {
+    return end[index];
+  }
+
+  public int getSubtreeSize(int index) {
+    return end[index] - index + 1;
+  }
+
+  public boolean isDescendantOf(int index, int ancestor) {
+    return ancestor < index && index <= end[ancestor];
+  }
+
+  public boolean isParentOf(int index, int child) {
+    return parent[child] == index;
+  }
+
+  public TreeNode<T> getSource(int index) {
+    return sources[index];
+  }
+
+  /**
+   * Index of the source node in this snapshot, or {@link #NO_NODE}.
+   */
+  public int indexOf(TreeNode<T> source) {
+    if (source instanceof FrozenTree.Node && ((Node) source).tree() == this) {
+      return ((Node) source).index;
+    }
+    final Integer index = sourceIndex.get(source);
+    return index == null ? NO_NODE : index;
+  }
+
+  /**
+   * Checks ancestry of two nodes of the source tree (or of this snapshot) in O(1), apart from the
+   * {@link #indexOf} lookup.
+   */
+  public boolean isDescendantOf(TreeNode<T> node, TreeNode<T> ancestor) {
+    int index = indexOf(node);
+    int ancestorIndex = indexOf(ancestor);
+    return index != NO_NODE && ancestorIndex != NO_NODE && isDescendantOf(index, ancestorIndex);
+  }
+
+  public TreeNode<T> getRoot() {
+    return new Node(0);
+  }
+
+  public TreeNode<T> getNode(int index) {
+    if (index < 0 || index >= data.length) {
+      throw new IndexOutOfBoundsException("Node index " + index + " out of bounds for size " + data.length);
+    }
+    return new Node(index);
+  }
+
+  /**
+   * Descendants of the node in pre-order, a view over the contiguous range of the snapshot.
+   */
+  public List<TreeNode<T>> getDescendants(int index) {
+    return new RangeList(index + 1, end[index] + 1);
+  }
+
+  private final class Node extends AbstractTreeNode<T> {
+
+    private final int index;
+
+    private Node(int index) {
+      this.index = index;
+    }
+
+    private FrozenTree<T> tree() {
+      return FrozenTree.this;
+    }
+
+    @Override
+    public T getData() {
+      return FrozenTree.this.getData(index);
+    }
+
+    @Override
+    public TreeNode<T> getParent() {
+      return parent[index] == NO_NODE ? null : new Node(parent[index]);
+    }
+
+    @Override
+    public List<TreeNode<T>> getChildren() {
+      if (end[index] == index) {
+        return List.of();
+      }
+      final List<TreeNode<T>> children = new ArrayList<>();
+      for (int child = index + 1; child <= end[index]; child = end[child] + 1) {
+        children.add(new Node(child));
+      }
+      return children;
+    }
+
+    @Override
+    public boolean hasChildren() {
+      return end[index] != index;
+    }
+
+    @Override
+    public boolean isLeaf() {
+      return parent[index] != NO_NODE && end[index] == index;
+    }
+
+    @Override
+    public boolean isParentOf(TreeNode<T> n) {
+      int other = indexOf(n);
+      return other != NO_NODE && parent[other] == index;
+    }
+
+    @Override
+    public boolean isDescendantOf(TreeNode<T> n) {
+      int other = indexOf(n);
+      return other != NO_NODE && FrozenTree.this.isDescendantOf(index, other);
+    }
+
+    @Override
+    public boolean isChildOf(TreeNode<T> n) {
+      int other = indexOf(n);
+      return other != NO_NODE && parent[index] == other;
+    }
+
+    @Override
+    public int size() {
+      return getSubtreeSize(index);
+    }
+
+    @Override
+    public List<TreeNode<T>> toList() {
+      return new ArrayList<>(new RangeList(index, end[index] + 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<T> toDataList() {
+      return new ArrayList<>((List<T>) Arrays.asList(data).subList(index, end[index] + 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof FrozenTree.Node)) {
+        return false;
+      }
+      Node node = (Node) o;
+      return node.index == index && node.tree() == FrozenTree.this;
+    }
+
+    @Override
+    public int hashCode() {
+      return index;
+    }
+  }
+
+  private final class RangeList extends AbstractList<TreeNode<T>> implements RandomAccess {
+
+    private final int from;
+    private final int to;
+
+    private RangeList(int from, int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public TreeNode<T> get(int position) {
+      if (position < 0 || position >= to - from) {
+        throw new IndexOutOfBoundsException("Index " + position + " out of bounds for length " + (to - from));
+      }
+      return new Node(from + position);
+    }
+
+    @Override
+    public int size() {
+      return to - from;
+    }
+  }
+}
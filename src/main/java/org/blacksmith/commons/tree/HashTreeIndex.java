@@ -0,0 +1,95 @@
+package org.blacksmith.commons.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TreeIndex} backed by a {@link HashMap}. Unique data is mapped directly to its node, a list is created only
+ * for duplicated data.
+ */
+public class HashTreeIndex<T> implements TreeIndex<T> {
+
+  private final Map<T, Object> nodes = new HashMap<>();
+  private int size;
+
+  @Override
+  public void add(TreeNode<T> node) {
+    add(node, node.getData());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void add(TreeNode<T> node, T data) {
+    Object current = nodes.get(data);
+    if (current == null && !nodes.containsKey(data)) {
+      nodes.put(data, node);
+    } else if (current instanceof NodeList) {
+      ((NodeList<T>) current).add(node);
+    } else {
+      NodeList<T> list = new NodeList<>();
+      list.add((TreeNode<T>) current);
+      list.add(node);
+      nodes.put(data, list);
+    }
+    ++size;
+  }
+
+  @Override
+  public void remove(TreeNode<T> node) {
+    remove(node, node.getData());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void remove(TreeNode<T> node, T data) {
+    Object current = nodes.get(data);
+    if (current == node) {
+      nodes.remove(data);
+      --size;
+    } else if (current instanceof NodeList) {
+      NodeList<T> list = (NodeList<T>) current;
+      if (list.remove(node)) {
+        --size;
+        if (list.size() == 1) {
+          nodes.put(data, list.get(0));
+        }
+      }
+    }
+  }
+
+  @Override
+  public void update(TreeNode<T> node, T oldData) {
+    remove(node, oldData);
+    add(node, node.getData());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public List<TreeNode<T>> get(T data) {
+    Object current = nodes.get(data);
+    if (current == null) {
+      return Collections.emptyList();
+    } else if (current instanceof NodeList) {
+      return Collections.unmodifiableList((NodeList<T>) current);
+    } else {
+      return Collections.singletonList((TreeNode<T>) current);
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void clear() {
+    nodes.clear();
+    size = 0;
+  }
+
+  private static final class NodeList<T> extends ArrayList<TreeNode<T>> {
+
+    private static final long serialVersionUID = -2374651139873565307L;
+  }
+}
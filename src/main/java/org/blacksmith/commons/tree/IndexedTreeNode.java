@@ -0,0 +1,182 @@
+package org.blacksmith.commons.tree;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * {@link BTreeNode} keeping a data to nodes index shared by all nodes of the tree. The index is updated on
+ * {@link #addChild}, {@link #removeChild}, {@link #setData} and {@link #clear}, so lookups by data
+ * ({@link #contains}, {@link #findDescendantWith}, {@link #findDescendantsWith(Object)}) don't scan the tree.
+ * Results of indexed lookups are in index order, not in pre-order.
+ * <p>
+ * A removed child takes its subtree into a new index, an added child's subtree is moved into the index of this tree.
+ */
+public class IndexedTreeNode<T> extends BTreeNode<T> {
+
+  private final Supplier<TreeIndex<T>> indexFactory;
+  private TreeIndex<T> index;
+
+  public IndexedTreeNode(T data) {
+    this(data, HashTreeIndex::new);
+  }
+
+  public IndexedTreeNode(T data, Supplier<TreeIndex<T>> indexFactory) {
+    super(data);
+    this.indexFactory = indexFactory;
+    this.index = indexFactory.get();
+    this.index.add(this);
+  }
+
+  private IndexedTreeNode(T data, IndexedTreeNode<T> parent) {
+    super(data);
+    this.indexFactory = parent.indexFactory;
+    this.index = parent.index;
+    this.index.add(this);
+  }
+
+  public static <T> IndexedTreeNode<T> of(T data) {
+    return new IndexedTreeNode<>(data);
+  }
+
+  public TreeIndex<T> getIndex() {
+    return index;
+  }
+
+  @Override
+  public void setData(T data) {
+    T oldData = getData();
+    super.setData(data);
+    index.update(this, oldData);
+  }
+
+  @Override
+  public IndexedTreeNode<T> addChild(TreeNode<T> child) {
+    if (!(child instanceof IndexedTreeNode)) {
+      throw new IllegalArgumentException("Child must be an IndexedTreeNode");
+    }
+    IndexedTreeNode<T> indexedChild = (IndexedTreeNode<T>) child;
+    if (indexedChild.index != index) {
+      indexedChild.moveTo(index);
+    }
+    return (IndexedTreeNode<T>) super.addChild(indexedChild);
+  }
+
+  @Override
+  public IndexedTreeNode<T> addChildWith(T o) {
+    return (IndexedTreeNode<T>) super.addChild(new IndexedTreeNode<>(o, this));
+  }
+
+  @Override
+  public IndexedTreeNode<T> removeChild(TreeNode<T> child) {
+    IndexedTreeNode<T> removed = (IndexedTreeNode<T>) super.removeChild(child);
+    if (removed != null) {
+      removed.moveTo(indexFactory.get());
+    }
+    return removed;
+  }
+
+  /**
+   * Detaches the node from its parent, drops its children and data.
+   */
+  @Override
+  public void clear() {
+    if (getParent() != null) {
+      getParent().removeChild(this);
+    }
+    final Iterator<TreeNode<T>> it = iterator(TraverseOrder.PRE);
+    it.next();
+    while (it.hasNext()) {
+      index.remove(it.next());
+    }
+    T oldData = getData();
+    super.clear();
+    index.update(this, oldData);
+  }
+
+  private void moveTo(TreeIndex<T> target) {
+    final Iterator<TreeNode<T>> it = iterator(TraverseOrder.PRE);
+    while (it.hasNext()) {
+      IndexedTreeNode<T> node = (IndexedTreeNode<T>) it.next();
+      node.index.remove(node);
+      node.index = target;
+      target.add(node);
+    }
+  }
+
+  private boolean inSubtree(TreeNode<T> node) {
+    return getParent() == null || node == this || node.isDescendantOf(this);
+  }
+
+  @Override
+  public boolean contains(T o) {
+    final List<TreeNode<T>> candidates = index.get(o);
+    for (int i = 0; i < candidates.size(); ++i) {
+      if (inSubtree(candidates.get(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public TreeNode<T> findDescendantWith(T o) {
+    TreeNode<T> found = null;
+    final List<TreeNode<T>> candidates = index.get(o);
+    for (int i = 0; i < candidates.size(); ++i) {
+      TreeNode<T> node = candidates.get(i);
+      if (inSubtree(node)) {
+        if (found != null) {
+          return null;
+        }
+        found = node;
+      }
+    }
+    return found;
+  }
+
+  @Override
+  public List<TreeNode<T>> findDescendantsWith(T o) {
+    final List<TreeNode<T>> candidates = index.get(o);
+    final List<TreeNode<T>> found = new ArrayList<>(candidates.size());
+    for (int i = 0; i < candidates.size(); ++i) {
+      TreeNode<T> node = candidates.get(i);
+      if (inSubtree(node)) {
+        found.add(node);
+      }
+    }
+    return found;
+  }
+
+  @Override
+  public List<TreeNode<T>> findTopDescendantsWith(T o) {
+    final List<TreeNode<T>> candidates = findDescendantsWith(o);
+    final List<TreeNode<T>> found = new ArrayList<>(candidates.size());
+    for (int i = 0; i < candidates.size(); ++i) {
+      TreeNode<T> node = candidates.get(i);
+      if (!hasAncestorWith(node, o)) {
+        found.add(node);
+      }
+    }
+    return found;
+  }
+
+  private boolean hasAncestorWith(TreeNode<T> node, T o) {
+    if (node == this) {
+      return false;
+    }
+    TreeNode<T> parent = node.getParent();
+    while (parent != null) {
+      if (Objects.equals(parent.getData(), o)) {
+        return true;
+      }
+      if (parent == this) {
+        return false;
+      }
+      parent = parent.getParent();
+    }
+    return false;
+  }
+}
@@ -0,0 +1,127 @@
+package org.blacksmith.commons.tree;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * {@link AbstractCompactTree} with {@code int} payload kept in an {@code int[]}, so lookups and traversals never box
+ * the values.
+ */
+public class IntCompactTree extends AbstractCompactTree {
+
+  private int[] data;
+
+  public IntCompactTree(int rootData) {
+    this(rootData, DEFAULT_CAPACITY);
+  }
+
+  public IntCompactTree(int rootData, int capacity) {
+    super(capacity);
+    this.data = new int[Math.max(capacity, 1)];
+    this.data[allocate(NO_NODE)] = rootData;
+  }
+
+  public static IntCompactTree of(TreeNode<Integer> root) {
+    IntCompactTree tree = new IntCompactTree(root.getData());
+    tree.copyChildren(root, ROOT, (value, added) -> tree.data[added] = value);
+    return tree;
+  }
+
+  @Override
+  protected void growData(int capacity) {
+    data = Arrays.copyOf(data, capacity);
+  }
+
+  public int add(int parentIndex, int value) {
+    int index = allocate(parentIndex);
+    data[index] = value;
+    return index;
+  }
+
+  public int getData(int index) {
+    checkIndex(index);
+    return data[index];
+  }
+
+  public void setData(int index, int value) {
+    checkIndex(index);
+    data[index] = value;
+  }
+
+  /**
+   * Pre-order traversal of the subtree starting at {@code index}.
+   */
+  public void traverse(int index, IntNodeVisitor visitor) {
+    checkIndex(index);
+    int node = index;
+    while (node != NO_NODE) {
+      visitor.visit(node, data[node]);
+      node = nextPreOrder(node, index, visitor.acceptChildren(node, data[node]));
+    }
+  }
+
+  /**
+   * Returns indexes of nodes in subtree of {@code index} matching the predicate, in pre-order.
+   */
+  public int[] findDescendantsWith(int index, IntPredicate p) {
+    checkIndex(index);
+    int[] found = new int[DEFAULT_CAPACITY];
+    int count = 0;
+    for (int node = index; node != NO_NODE; node = nextPreOrder(node, index, true)) {
+      if (p.test(data[node])) {
+        if (count == found.length) {
+          found = Arrays.copyOf(found, count << 1);
+        }
+        found[count++] = node;
+      }
+    }
+    return Arrays.copyOf(found, count);
+  }
+
+  /**
+   * Returns index of the first node (pre-order) in subtree of {@code index} matching the predicate, or
+   * {@link #NO_NODE}.
+   */
+  public int findDescendantWith(int index, IntPredicate p) {
+    checkIndex(index);
+    for (int node = index; node != NO_NODE; node = nextPreOrder(node, index, true)) {
+      if (p.test(data[node])) {
+        return node;
+      }
+    }
+    return NO_NODE;
+  }
+
+  public boolean contains(int index, int value) {
+    return findDescendantWith(index, d -> d == value) != NO_NODE;
+  }
+
+  public int[] toDataArray() {
+    return toDataArray(ROOT);
+  }
+
+  /**
+   * Returns payload of subtree of {@code index} in pre-order.
+   */
+  public int[] toDataArray(int index) {
+    checkIndex(index);
+    int[] result = new int[index == ROOT ? size() : DEFAULT_CAPACITY];
+    int count = 0;
+    for (int node = index; node != NO_NODE; node = nextPreOrder(node, index, true)) {
+      if (count == result.length) {
+        result = Arrays.copyOf(result, count << 1);
+      }
+      result[count++] = data[node];
+    }
+    return Arrays.copyOf(result, count);
+  }
+
+  public interface IntNodeVisitor {
+
+    void visit(int index, int data);
+
+    default boolean acceptChildren(int index, int data) {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package org.blacksmith.commons.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * {@link BTreeNode} caching the path from the root and the leaves of its subtree. {@link #getPath()} is computed once
+ * and shared: {@link #getAncestors()} of every child is the path of its parent, so siblings share one array. The
+ * leaves of a subtree are collected on the first {@link #getLeaves()} call.
+ * <p>
+ * {@link #setParent} (called by {@code addChild} and {@code removeChild}) drops cached paths in the moved subtree,
+ * {@code addChild}, {@code removeChild} and {@link #clear()} drop cached leaves of the node and its ancestors, so a
+ * mutation costs O(depth + size of the moved subtree) as in {@link MeasuredTreeNode}. Not thread-safe.
+ */
+public class LineageTreeNode<T> extends BTreeNode<T> {
+
+  private List<TreeNode<T>> path;
+  private List<TreeNode<T>> leaves;
+
+  public LineageTreeNode(T data) {
+    super(data);
+  }
+
+  public static <T> LineageTreeNode<T> of(T data) {
+    return new LineageTreeNode<>(data);
+  }
+
+  private LineageTreeNode<T> lineageParent() {
+    BTreeNode<T> parent = getParent();
+    return parent instanceof LineageTreeNode ? (LineageTreeNode<T>) parent : null;
+  }
+
+  @Override
+  public LineageTreeNode<T> addChild(TreeNode<T> child) {
+    if (!(child instanceof LineageTreeNode)) {
+      throw new IllegalArgumentException("Child must be a LineageTreeNode");
+    }
+    final LineageTreeNode<T> added = (LineageTreeNode<T>) super.addChild(child);
+    invalidateLeaves(this);
+    return added;
+  }
+
+  @Override
+  public LineageTreeNode<T> addChildWith(T o) {
+    return addChild(new LineageTreeNode<>(o));
+  }
+
+  @Override
+  public LineageTreeNode<T> removeChild(TreeNode<T> child) {
+    final LineageTreeNode<T> removed = (LineageTreeNode<T>) super.removeChild(child);
+    if (removed != null) {
+      invalidateLeaves(this);
+    }
+    return removed;
+  }
+
+  @Override
+  public void setParent(TreeNode<T> parent) {
+    super.setParent(parent);
+    if (path == null && !hasChildren()) {
+      return;
+    }
+    final Iterator<TreeNode<T>> it = iterator(TraverseOrder.PRE);
+    while (it.hasNext()) {
+      ((LineageTreeNode<T>) it.next()).path = null;
+    }
+  }
+
+  @Override
+  public void clear() {
+    final LineageTreeNode<T> parent = lineageParent();
+    super.clear();
+    path = null;
+    leaves = null;
+    if (parent != null) {
+      invalidateLeaves(parent);
+    }
+  }
+
+  private static <T> void invalidateLeaves(LineageTreeNode<T> node) {
+    for (LineageTreeNode<T> n = node; n != null; n = n.lineageParent()) {
+      n.leaves = null;
+    }
+  }
+
+  /**
+   * Nodes from the root to this node (inclusive).
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public List<TreeNode<T>> getPath() {
+    if (path == null) {
+      final LineageTreeNode<T> parent = lineageParent();
+      final TreeNode<T>[] nodes;
+      if (parent != null && parent.path != null) {
+        nodes = parent.path.toArray(new TreeNode[parent.path.size() + 1]);
+      } else {
+        int depth = 0;
+        for (TreeNode<T> n = getParent(); n != null; n = n.getParent()) {
+          ++depth;
+        }
+        nodes = new TreeNode[depth + 1];
+        TreeNode<T> n = getParent();
+        for (int i = depth - 1; i >= 0; --i) {
+          nodes[i] = n;
+          n = n.getParent();
+        }
+      }
+      nodes[nodes.length - 1] = this;
+      path = Collections.unmodifiableList(Arrays.asList(nodes));
+    }
+    return path;
+  }
+
+  /**
+   * Nodes from the root to the parent of this node, the same list for all siblings.
+   */
+  public List<TreeNode<T>> getAncestors() {
+    final LineageTreeNode<T> parent = lineageParent();
+    return parent == null ? List.of() : parent.getPath();
+  }
+
+  public int getDepth() {
+    return getPath().size() - 1;
+  }
+
+  /**
+   * Nodes without children in the subtree of this node, in pre-order.
+   */
+  public List<TreeNode<T>> getLeaves() {
+    if (leaves == null) {
+      final List<TreeNode<T>> found = new ArrayList<>();
+      final Iterator<TreeNode<T>> it = iterator(TraverseOrder.PRE);
+      while (it.hasNext()) {
+        final TreeNode<T> n = it.next();
+        if (!n.hasChildren()) {
+          found.add(n);
+        }
+      }
+      leaves = Collections.unmodifiableList(found);
+    }
+    return leaves;
+  }
+}
@@ -0,0 +1,127 @@
+package org.blacksmith.commons.tree;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * {@link AbstractCompactTree} with {@code long} payload kept in a {@code long[]}, so lookups and traversals never box
+ * the values.
+ */
+public class LongCompactTree extends AbstractCompactTree {
+
+  private long[] data;
+
+  public LongCompactTree(long rootData) {
+    this(rootData, DEFAULT_CAPACITY);
+  }
+
+  public LongCompactTree(long rootData, int capacity) {
+    super(capacity);
+    this.data = new long[Math.max(capacity, 1)];
+    this.data[allocate(NO_NODE)] = rootData;
+  }
+
+  public static LongCompactTree of(TreeNode<Long> root) {
+    LongCompactTree tree = new LongCompactTree(root.getData());
+    tree.copyChildren(root, ROOT, (value, added) -> tree.data[added] = value);
+    return tree;
+  }
+
+  @Override
+  protected void growData(int capacity) {
+    data = Arrays.copyOf(data, capacity);
+  }
+
+  public int add(int parentIndex, long value) {
+    int index = allocate(parentIndex);
+    data[index] = value;
+    return index;
+  }
+
+  public long getData(int index) {
+    checkIndex(index);
+    return data[index];
+  }
+
+  public void setData(int index, long value) {
+    checkIndex(index);
+    data[index] = value;
+  }
+
+  /**
+   * Pre-order traversal of the subtree starting at {@code index}.
+   */
+  public void traverse(int index, LongNodeVisitor visitor) {
+    checkIndex(index);
+    int node = index;
+    while (node != NO_NODE) {
+      visitor.visit(node, data[node]);
+      node = nextPreOrder(node, index, visitor.acceptChildren(node, data[node]));
+    }
+  }
+
+  /**
+   * Returns indexes of nodes in subtree of {@code index} matching the predicate, in pre-order.
+   */
+  public int[] findDescendantsWith(int index, LongPredicate p) {
+    checkIndex(index);
+    int[] found = new int[DEFAULT_CAPACITY];
+    int count = 0;
+    for (int node = index; node != NO_NODE; node = nextPreOrder(node, index, true)) {
+      if (p.test(data[node])) {
+        if (count == found.length) {
+          found = Arrays.copyOf(found, count << 1);
+        }
+        found[count++] = node;
+      }
+    }
+    return Arrays.copyOf(found, count);
+  }
+
+  /**
+   * Returns index of the first node (pre-order) in subtree of {@code index} matching the predicate, or
+   * {@link #NO_NODE}.
+   */
+  public int findDescendantWith(int index, LongPredicate p) {
+    checkIndex(index);
+    for (int node = index; node != NO_NODE; node = nextPreOrder(node, index, true)) {
+      if (p.test(data[node])) {
+        return node;
+      }
+    }
+    return NO_NODE;
+  }
+
+  public boolean contains(int index, long value) {
+    return findDescendantWith(index, d -> d == value) != NO_NODE;
+  }
+
+  public long[] toDataArray() {
+    return toDataArray(ROOT);
+  }
+
+  /**
+   * Returns payload of subtree of {@code index} in pre-order.
+   */
+  public long[] toDataArray(int index) {
+    checkIndex(index);
+    long[] result = new long[index == ROOT ? size() : DEFAULT_CAPACITY];
+    int count = 0;
+    for (int node = index; node != NO_NODE; node = nextPreOrder(node, index, true)) {
+      if (count == result.length) {
+        result = Arrays.copyOf(result, count << 1);
+      }
+      result[count++] = data[node];
+    }
+    return Arrays.copyOf(result, count);
+  }
+
+  public interface LongNodeVisitor {
+
+    void visit(int index, long data);
+
+    default boolean acceptChildren(int index, long data) {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package org.blacksmith.commons.tree;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Subtree sums of {@code long} node values. Changes are propagated as deltas along the parent chain, O(depth),
+ * without reading siblings.
+ *
+ * @see TreeAggregator
+ */
+public final class LongTreeAggregator<T> {
+
+  private final TreeNode<T> root;
+  private final ToLongFunction<T> mapper;
+  private final Map<TreeNode<T>, Sum> sums = new HashMap<>();
+
+  private LongTreeAggregator(TreeNode<T> root, ToLongFunction<T> mapper) {
+    this.root = root;
+    this.mapper = mapper;
+    computeSubtree(root);
+  }
+
+  public static <T> LongTreeAggregator<T> of(TreeNode<T> root, ToLongFunction<T> mapper) {
+    return new LongTreeAggregator<>(root, mapper);
+  }
+
+  public TreeNode<T> getRoot() {
+    return root;
+  }
+
+  public long get(TreeNode<T> node) {
+    return sum(node).total;
+  }
+
+  public long get() {
+    return sums.get(root).total;
+  }
+
+  public void dataChanged(TreeNode<T> node) {
+    final Sum sum = sum(node);
+    final long value = mapper.applyAsLong(node.getData());
+    final long delta = value - sum.value;
+    sum.value = value;
+    sum.total += delta;
+    propagate(node.getParent(), node, delta);
+  }
+
+  /**
+   * Computes sums of the added subtree and adds its total to the ancestors.
+   */
+  public void childAdded(TreeNode<T> child) {
+    propagate(child.getParent(), null, computeSubtree(child));
+  }
+
+  /**
+   * Drops sums of the removed subtree and subtracts its total from the former ancestors.
+   */
+  public void childRemoved(TreeNode<T> parent, TreeNode<T> child) {
+    final long total = sum(child).total;
+    final List<TreeNode<T>> removed = child.toList();
+    for (int i = 0; i < removed.size(); ++i) {
+      sums.remove(removed.get(i));
+    }
+    propagate(parent, null, -total);
+  }
+
+  /**
+   * Recomputes the whole tree.
+   */
+  public void recompute() {
+    sums.clear();
+    computeSubtree(root);
+  }
+
+  private void propagate(TreeNode<T> from, TreeNode<T> changed, long delta) {
+    if (changed == root) {
+      return;
+    }
+    for (TreeNode<T> n = from; n != null; n = n.getParent()) {
+      sums.get(n).total += delta;
+      if (n == root) {
+        break;
+      }
+    }
+  }
+
+  private long computeSubtree(TreeNode<T> node) {
+    final FrozenTree<T> tree = FrozenTree.of(node);
+    final Sum[] computed = new Sum[tree.size()];
+    for (int i = tree.size() - 1; i >= 0; --i) {
+      final Sum sum = new Sum(mapper.applyAsLong(tree.getData(i)));
+      for (int child = i + 1; child <= tree.getEnd(i); child = tree.getEnd(child) + 1) {
+        sum.total += computed[child].total;
+      }
+      computed[i] = sum;
+      sums.put(tree.getSource(i), sum);
+    }
+    return computed[0].total;
+  }
+
+  private Sum sum(TreeNode<T> node) {
+    final Sum sum = sums.get(node);
+    if (sum == null) {
+      throw new IllegalArgumentException("Node doesn't belong to the tree");
+    }
+    return sum;
+  }
+
+  private static final class Sum {
+
+    private long value;
+    private long total;
+
+    private Sum(long value) {
+      this.value = value;
+      this.total = value;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package org.blacksmith.commons.tree;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * {@link BTreeNode} keeping subtree size, depth and height counters, so {@link #size()}, {@link #getDepth()} and
+ * {@link #getHeight()} are O(1). {@link #addChild} and {@link #removeChild} update the counters by walking up the
+ * parent chain; depth of a moved subtree is updated in the whole subtree.
+ * <p>
+ * Structure has to be changed through {@code addChild}/{@code removeChild}, calling {@link #setParent} directly
+ * bypasses the counters.
+ */
+public class MeasuredTreeNode<T> extends BTreeNode<T> {
+
+  private int size = 1;
+  private int depth = 0;
+  private int height = 0;
+
+  public MeasuredTreeNode(T data) {
+    super(data);
+  }
+
+  public static <T> MeasuredTreeNode<T> of(T data) {
+    return new MeasuredTreeNode<>(data);
+  }
+
+  private MeasuredTreeNode<T> measuredParent() {
+    BTreeNode<T> parent = getParent();
+    return parent instanceof MeasuredTreeNode ? (MeasuredTreeNode<T>) parent : null;
+  }
+
+  @Override
+  public MeasuredTreeNode<T> addChild(TreeNode<T> child) {
+    if (!(child instanceof MeasuredTreeNode)) {
+      throw new IllegalArgumentException("Child must be a MeasuredTreeNode");
+    }
+    MeasuredTreeNode<T> measuredChild = (MeasuredTreeNode<T>) super.addChild(child);
+    measuredChild.updateDepth(depth + 1);
+    int childHeight = measuredChild.height + 1;
+    for (MeasuredTreeNode<T> p = this; p != null; p = p.measuredParent()) {
+      p.size += measuredChild.size;
+      if (p.height < childHeight) {
+        p.height = childHeight;
+      }
+      ++childHeight;
+    }
+    return measuredChild;
+  }
+
+  @Override
+  public MeasuredTreeNode<T> addChildWith(T o) {
+    return addChild(new MeasuredTreeNode<>(o));
+  }
+
+  @Override
+  public MeasuredTreeNode<T> removeChild(TreeNode<T> child) {
+    MeasuredTreeNode<T> removed = (MeasuredTreeNode<T>) super.removeChild(child);
+    if (removed != null) {
+      removed.updateDepth(0);
+      updateAncestors(this, removed.size);
+    }
+    return removed;
+  }
+
+  /**
+   * Drops children and data. As in {@link BTreeNode#clear()} the node stays on the children list of its former
+   * parent, so the former ancestors keep counting it as a single node.
+   */
+  @Override
+  public void clear() {
+    MeasuredTreeNode<T> parent = measuredParent();
+    int removedSize = size - 1;
+    super.clear();
+    size = 1;
+    height = 0;
+    depth = 0;
+    if (parent != null) {
+      updateAncestors(parent, removedSize);
+    }
+  }
+
+  private static <T> void updateAncestors(MeasuredTreeNode<T> node, int removedSize) {
+    boolean heightChanged = true;
+    for (MeasuredTreeNode<T> p = node; p != null; p = p.measuredParent()) {
+      p.size -= removedSize;
+      if (heightChanged) {
+        int newHeight = p.computeHeight();
+        heightChanged = newHeight != p.height;
+        p.height = newHeight;
+      }
+    }
+  }
+
+  private int computeHeight() {
+    int result = 0;
+    final List<TreeNode<T>> children = getChildren();
+    for (int i = 0; i < children.size(); ++i) {
+      result = Math.max(result, ((MeasuredTreeNode<T>) children.get(i)).height + 1);
+    }
+    return result;
+  }
+
+  private void updateDepth(int newDepth) {
+    int delta = newDepth - depth;
+    if (delta == 0) {
+      return;
+    }
+    final Iterator<TreeNode<T>> it = iterator(TraverseOrder.PRE);
+    while (it.hasNext()) {
+      ((MeasuredTreeNode<T>) it.next()).depth += delta;
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  public int getDepth() {
+    return depth;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+}
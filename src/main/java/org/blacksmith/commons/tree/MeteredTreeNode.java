@@ -0,0 +1,253 @@
+package org.blacksmith.commons.tree;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.blacksmith.commons.tree.TreeMetrics.Operation;
+
+/**
+ * Decorator of a node recording calls and durations of {@code size}, {@code contains} and the
+ * {@code find...DescendantsWith} searches in {@link TreeMetrics}. Other methods, and all methods while metrics are
+ * disabled, go directly to the wrapped node; navigation returns the wrapped tree's nodes, so only calls made on the
+ * decorator are recorded.
+ */
+public final class MeteredTreeNode<T> implements TreeNode<T> {
+
+  private final TreeNode<T> delegate;
+  private final TreeMetrics metrics;
+
+  private MeteredTreeNode(TreeNode<T> delegate, TreeMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  public static <T> MeteredTreeNode<T> of(TreeNode<T> delegate, TreeMetrics metrics) {
+    return new MeteredTreeNode<>(delegate, metrics);
+  }
+
+  public TreeNode<T> getDelegate() {
+    return delegate;
+  }
+
+  private <R> R measure(Operation operation, Supplier<R> call) {
+    final long start = System.nanoTime();
+    final R result = call.get();
+    metrics.record(operation, System.nanoTime() - start);
+    return result;
+  }
+
+  @Override
+  public int size() {
+    if (!metrics.isEnabled()) {
+      return delegate.size();
+    }
+    final long start = System.nanoTime();
+    final int size = delegate.size();
+    metrics.record(Operation.SIZE, System.nanoTime() - start);
+    return size;
+  }
+
+  @Override
+  public boolean contains(T o) {
+    if (!metrics.isEnabled()) {
+      return delegate.contains(o);
+    }
+    final long start = System.nanoTime();
+    final boolean contains = delegate.contains(o);
+    metrics.record(Operation.CONTAINS, System.nanoTime() - start);
+    return contains;
+  }
+
+  @Override
+  public TreeNode<T> findDescendantWith(T o) {
+    if (!metrics.isEnabled()) {
+      return delegate.findDescendantWith(o);
+    }
+    return measure(Operation.FIND_DESCENDANT_WITH, () -> delegate.findDescendantWith(o));
+  }
+
+  @Override
+  public TreeNode<T>[] findDescendantsArrayWith(T o) {
+    if (!metrics.isEnabled()) {
+      return delegate.findDescendantsArrayWith(o);
+    }
+    return measure(Operation.FIND_DESCENDANTS_WITH, () -> delegate.findDescendantsArrayWith(o));
+  }
+
+  @Override
+  public TreeNode<T>[] findDescendantsArrayWith(Predicate<T> p) {
+    if (!metrics.isEnabled()) {
+      return delegate.findDescendantsArrayWith(p);
+    }
+    return measure(Operation.FIND_DESCENDANTS_WITH, () -> delegate.findDescendantsArrayWith(p));
+  }
+
+  @Override
+  public List<TreeNode<T>> findDescendantsWith(T o) {
+    if (!metrics.isEnabled()) {
+      return delegate.findDescendantsWith(o);
+    }
+    return measure(Operation.FIND_DESCENDANTS_WITH, () -> delegate.findDescendantsWith(o));
+  }
+
+  @Override
+  public List<TreeNode<T>> findDescendantsWith(Predicate<T> p) {
+    if (!metrics.isEnabled()) {
+      return delegate.findDescendantsWith(p);
+    }
+    return measure(Operation.FIND_DESCENDANTS_WITH, () -> delegate.findDescendantsWith(p));
+  }
+
+  @Override
+  public List<TreeNode<T>> findDescendantsWith(Predicate<T> p, TreeTraverser traverser) {
+    if (!metrics.isEnabled()) {
+      return delegate.findDescendantsWith(p, traverser);
+    }
+    return measure(Operation.FIND_DESCENDANTS_WITH, () -> delegate.findDescendantsWith(p, traverser));
+  }
+
+  @Override
+  public List<TreeNode<T>> findTopDescendantsWith(T o) {
+    if (!metrics.isEnabled()) {
+      return delegate.findTopDescendantsWith(o);
+    }
+    return measure(Operation.FIND_TOP_DESCENDANTS_WITH, () -> delegate.findTopDescendantsWith(o));
+  }
+
+  @Override
+  public T getData() {
+    return delegate.getData();
+  }
+
+  @Override
+  public void setData(T data) {
+    delegate.setData(data);
+  }
+
+  @Override
+  public TreeNode<T> getParent() {
+    return delegate.getParent();
+  }
+
+  @Override
+  public void setParent(TreeNode<T> parent) {
+    delegate.setParent(parent);
+  }
+
+  @Override
+  public List<TreeNode<T>> getChildren() {
+    return delegate.getChildren();
+  }
+
+  @Override
+  public TreeNode<T> addChild(TreeNode<T> child) {
+    return delegate.addChild(child);
+  }
+
+  @Override
+  public TreeNode<T> removeChild(TreeNode<T> child) {
+    return delegate.removeChild(child);
+  }
+
+  @Override
+  public TreeNode<T> addChildWith(T o) {
+    return delegate.addChildWith(o);
+  }
+
+  @Override
+  public void ensureChildrenCapacity(int capacity) {
+    delegate.ensureChildrenCapacity(capacity);
+  }
+
+  @Override
+  public boolean isParentOf(TreeNode<T> n) {
+    return delegate.isParentOf(n);
+  }
+
+  @Override
+  public TreeNode<T> removeDescendantWith(T o) {
+    return delegate.removeDescendantWith(o);
+  }
+
+  @Override
+  public List<TreeNode<T>> removeDescendantsWith(T o) {
+    return delegate.removeDescendantsWith(o);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+  }
+
+  @Override
+  public boolean isLeaf() {
+    return delegate.isLeaf();
+  }
+
+  @Override
+  public boolean isRoot() {
+    return delegate.isRoot();
+  }
+
+  @Override
+  public boolean hasChildren() {
+    return delegate.hasChildren();
+  }
+
+  @Override
+  public boolean isDescendantOf(TreeNode<T> node) {
+    return delegate.isDescendantOf(node);
+  }
+
+  @Override
+  public boolean isChildOf(TreeNode<T> node) {
+    return delegate.isChildOf(node);
+  }
+
+  @Override
+  public T[] toDataArray(T[] a) {
+    return delegate.toDataArray(a);
+  }
+
+  @Override
+  public Object[] toArray() {
+    return delegate.toArray();
+  }
+
+  @Override
+  public List<TreeNode<T>> toList() {
+    return delegate.toList();
+  }
+
+  @Override
+  public List<T> toDataList() {
+    return delegate.toDataList();
+  }
+
+  @Override
+  public List<TreeNode<T>> toList(TreeTraverser traverser) {
+    return delegate.toList(traverser);
+  }
+
+  @Override
+  public List<T> toDataList(TreeTraverser traverser) {
+    return delegate.toDataList(traverser);
+  }
+
+  @Override
+  public Stream<TreeNode<T>> stream() {
+    return delegate.stream();
+  }
+
+  @Override
+  public Iterator<TreeNode<T>> iterator(TraverseOrder order) {
+    return delegate.iterator(order);
+  }
+
+  @Override
+  public String toString() {
+    return delegate.toString();
+  }
+}
@@ -0,0 +1,333 @@
+package org.blacksmith.commons.tree;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Tree kept outside of the heap: structure links and fixed-width payloads of all nodes are records in direct
+ * {@link ByteBuffer} pages, so the garbage collector sees a few page buffers instead of millions of node objects.
+ * Pages of {@code pageNodes} records are allocated when the tree grows and released with the tree.
+ * <pre>
+ *   int parent, int firstChild, int lastChild, int nextSibling, int childCount   (-1 for no node)
+ *   byte[codec.size()] payload
+ * </pre>
+ * Nodes are addressed by index ({@link #ROOT} is 0) and can be appended or have their data replaced. {@link #getRoot()}
+ * returns a read-only {@link TreeNode} cursor for the traversers, payloads are decoded on access. Not thread-safe for
+ * modifications.
+ */
+public final class OffHeapTree<T> {
+
+  public static final int ROOT = 0;
+  public static final int NO_NODE = -1;
+
+  private static final int DEFAULT_PAGE_NODES = 1 << 16;
+  private static final int PARENT = 0;
+  private static final int FIRST_CHILD = 4;
+  private static final int LAST_CHILD = 8;
+  private static final int NEXT_SIBLING = 12;
+  private static final int CHILD_COUNT = 16;
+  private static final int HEADER_SIZE = 20;
+
+  private final FixedWidthCodec<T> codec;
+  private final int recordSize;
+  private final int pageShift;
+  private final int pageMask;
+  private ByteBuffer[] pages = new ByteBuffer[4];
+  private int size;
+
+  private OffHeapTree(FixedWidthCodec<T> codec, int pageNodes) {
+    if (pageNodes <= 0 || Integer.bitCount(pageNodes) != 1) {
+      throw new IllegalArgumentException("Page nodes must be a power of two: " + pageNodes);
+    }
+    this.codec = codec;
+    this.recordSize = HEADER_SIZE + codec.size();
+    if ((long) pageNodes * recordSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Page of " + pageNodes + " nodes exceeds a ByteBuffer");
+    }
+    this.pageShift = Integer.numberOfTrailingZeros(pageNodes);
+    this.pageMask = pageNodes - 1;
+  }
+
+  public static <T> OffHeapTree<T> of(FixedWidthCodec<T> codec, T rootData) {
+    return of(codec, rootData, DEFAULT_PAGE_NODES);
+  }
+
+  public static <T> OffHeapTree<T> of(FixedWidthCodec<T> codec, T rootData, int pageNodes) {
+    final OffHeapTree<T> tree = new OffHeapTree<>(codec, pageNodes);
+    tree.append(NO_NODE, rootData);
+    return tree;
+  }
+
+  /**
+   * Copies any tree breadth-first, so children of a node are stored next to each other and the k-th node taken from
+   * the queue has index k.
+   */
+  public static <T> OffHeapTree<T> copyOf(TreeNode<T> source, FixedWidthCodec<T> codec) {
+    return copyOf(source, codec, DEFAULT_PAGE_NODES);
+  }
+
+  public static <T> OffHeapTree<T> copyOf(TreeNode<T> source, FixedWidthCodec<T> codec, int pageNodes) {
+    final OffHeapTree<T> tree = of(codec, source.getData(), pageNodes);
+    final Deque<TreeNode<T>> dq = new ArrayDeque<>();
+    dq.add(source);
+    int index = ROOT;
+    TreeNode<T> n;
+    while ((n = dq.pollFirst()) != null) {
+      final List<TreeNode<T>> children = n.getChildren();
+      for (int i = 0; i < children.size(); ++i) {
+        final TreeNode<T> child = children.get(i);
+        dq.add(child);
+        tree.addChild(index, child.getData());
+      }
+      ++index;
+    }
+    return tree;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Bytes allocated outside of the heap.
+   */
+  public long getAllocatedBytes() {
+    long bytes = 0;
+    for (ByteBuffer page : pages) {
+      if (page != null) {
+        bytes += page.capacity();
+      }
+    }
+    return bytes;
+  }
+
+  /**
+   * Appends a child as the last child of the parent, returns its index.
+   */
+  public int addChild(int parent, T data) {
+    checkIndex(parent);
+    final int child = append(parent, data);
+    final int last = getInt(parent, LAST_CHILD);
+    if (last == NO_NODE) {
+      putInt(parent, FIRST_CHILD, child);
+    } else {
+      putInt(last, NEXT_SIBLING, child);
+    }
+    putInt(parent, LAST_CHILD, child);
+    putInt(parent, CHILD_COUNT, getInt(parent, CHILD_COUNT) + 1);
+    return child;
+  }
+
+  private int append(int parent, T data) {
+    if (size == Integer.MAX_VALUE) {
+      throw new IllegalStateException("Tree is full");
+    }
+    final int index = size;
+    final int page = index >>> pageShift;
+    if (page == pages.length) {
+      pages = Arrays.copyOf(pages, page << 1);
+    }
+    if (pages[page] == null) {
+      pages[page] = ByteBuffer.allocateDirect((pageMask + 1) * recordSize).order(ByteOrder.nativeOrder());
+    }
+    ++size;
+    putInt(index, PARENT, parent);
+    putInt(index, FIRST_CHILD, NO_NODE);
+    putInt(index, LAST_CHILD, NO_NODE);
+    putInt(index, NEXT_SIBLING, NO_NODE);
+    putInt(index, CHILD_COUNT, 0);
+    setData(index, data);
+    return index;
+  }
+
+  public T getData(int index) {
+    checkIndex(index);
+    return codec.read(page(index), offset(index) + HEADER_SIZE);
+  }
+
+  public void setData(int index, T data) {
+    checkIndex(index);
+    codec.write(page(index), offset(index) + HEADER_SIZE, data);
+  }
+
+  public int getParent(int index) {
+    checkIndex(index);
+    return getInt(index, PARENT);
+  }
+
+  public int getFirstChild(int index) {
+    checkIndex(index);
+    return getInt(index, FIRST_CHILD);
+  }
+
+  public int getNextSibling(int index) {
+    checkIndex(index);
+    return getInt(index, NEXT_SIBLING);
+  }
+
+  public int getChildCount(int index) {
+    checkIndex(index);
+    return getInt(index, CHILD_COUNT);
+  }
+
+  public TreeNode<T> getRoot() {
+    return new Node(ROOT);
+  }
+
+  public TreeNode<T> getNode(int index) {
+    checkIndex(index);
+    return new Node(index);
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+  }
+
+  private ByteBuffer page(int index) {
+    return pages[index >>> pageShift];
+  }
+
+  private int offset(int index) {
+    return (index & pageMask) * recordSize;
+  }
+
+  private int getInt(int index, int field) {
+    return page(index).getInt(offset(index) + field);
+  }
+
+  private void putInt(int index, int field, int value) {
+    page(index).putInt(offset(index) + field, value);
+  }
+
+  private final class Node extends AbstractTreeNode<T> {
+
+    private final int index;
+
+    private Node(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public T getData() {
+      return OffHeapTree.this.getData(index);
+    }
+
+    @Override
+    public TreeNode<T> getParent() {
+      final int parent = getInt(index, PARENT);
+      return parent == NO_NODE ? null : new Node(parent);
+    }
+
+    @Override
+    public List<TreeNode<T>> getChildren() {
+      final int count = getInt(index, CHILD_COUNT);
+      if (count == 0) {
+        return List.of();
+      }
+      final List<TreeNode<T>> children = new ArrayList<>(count);
+      for (int child = getInt(index, FIRST_CHILD); child != NO_NODE; child = getInt(child, NEXT_SIBLING)) {
+        children.add(new Node(child));
+      }
+      return children;
+    }
+
+    @Override
+    public boolean hasChildren() {
+      return getInt(index, CHILD_COUNT) > 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof OffHeapTree.Node)) {
+        return false;
+      }
+      Node node = (Node) o;
+      return node.tree() == OffHeapTree.this && node.index == index;
+    }
+
+    private OffHeapTree<T> tree() {
+      return OffHeapTree.this;
+    }
+
+    @Override
+    public int hashCode() {
+      return index;
+    }
+  }
+
+  /**
+   * Fixed-width encoding of node data. {@code write} and {@code read} use {@link #size()} bytes at the absolute
+   * {@code offset} of the buffer and must not change the buffer position. The predefined codecs don't store
+   * {@code null}.
+   */
+  public interface FixedWidthCodec<T> {
+
+    FixedWidthCodec<Long> LONG = new FixedWidthCodec<>() {
+      @Override
+      public int size() {
+        return Long.BYTES;
+      }
+
+      @Override
+      public void write(ByteBuffer buffer, int offset, Long data) {
+        buffer.putLong(offset, data);
+      }
+
+      @Override
+      public Long read(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset);
+      }
+    };
+
+    FixedWidthCodec<Integer> INTEGER = new FixedWidthCodec<>() {
+      @Override
+      public int size() {
+        return Integer.BYTES;
+      }
+
+      @Override
+      public void write(ByteBuffer buffer, int offset, Integer data) {
+        buffer.putInt(offset, data);
+      }
+
+      @Override
+      public Integer read(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset);
+      }
+    };
+
+    FixedWidthCodec<Double> DOUBLE = new FixedWidthCodec<>() {
+      @Override
+      public int size() {
+        return Double.BYTES;
+      }
+
+      @Override
+      public void write(ByteBuffer buffer, int offset, Double data) {
+        buffer.putDouble(offset, data);
+      }
+
+      @Override
+      public Double read(ByteBuffer buffer, int offset) {
+        return buffer.getDouble(offset);
+      }
+    };
+
+    int size();
+
+    void write(ByteBuffer buffer, int offset, T data);
+
+    T read(ByteBuffer buffer, int offset);
+  }
+}
@@ -0,0 +1,241 @@
+package org.blacksmith.commons.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable tree with structural sharing. {@link #addChild}, {@link #remove} and {@link #setData} return a new
+ * version which copies only the path from the changed node to the root (O(depth)) and shares all other subtrees with
+ * this version, so a version can be published to other threads without copying or locking.
+ * <p>
+ * Nodes are read-only {@link TreeNode} cursors bound to a version, so all traversers work on them; a cursor of one
+ * version can't be used to modify another version.
+ */
+public final class PersistentTree<T> {
+
+  private final Entry<T> root;
+
+  private PersistentTree(Entry<T> root) {
+    this.root = root;
+  }
+
+  public static <T> PersistentTree<T> of(T data) {
+    return new PersistentTree<>(new Entry<>(data, Entry.noChildren(), 1));
+  }
+
+  /**
+   * Copies any tree, sharing subtrees which are already nodes of a {@code PersistentTree}.
+   */
+  public static <T> PersistentTree<T> copyOf(TreeNode<T> source) {
+    return new PersistentTree<>(toEntry(source));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static <T> Entry<T> toEntry(TreeNode<T> source) {
+    if (source instanceof PersistentTree.Node) {
+      return ((Node<T>) source).entry;
+    }
+    final FrozenTree<T> tree = FrozenTree.of(source);
+    final Entry<T>[] entries = new Entry[tree.size()];
+    for (int i = tree.size() - 1; i >= 0; --i) {
+      final List<Entry<T>> children = new ArrayList<>();
+      for (int child = i + 1; child <= tree.getEnd(i); child = tree.getEnd(child) + 1) {
+        children.add(entries[child]);
+        entries[child] = null;
+      }
+      entries[i] = new Entry<>(tree.getData(i), children.toArray(new Entry[0]), tree.getSubtreeSize(i));
+    }
+    return entries[0];
+  }
+
+  public TreeNode<T> getRoot() {
+    return new Node<>(this, root, null, -1);
+  }
+
+  public int size() {
+    return root.size;
+  }
+
+  public PersistentTree<T> addChild(TreeNode<T> parent, T data) {
+    return addChild(parent, new Entry<>(data, Entry.noChildren(), 1));
+  }
+
+  /**
+   * Adds a copy of the subtree as the last child of the parent, a node of any {@code PersistentTree} is shared
+   * without copying.
+   */
+  public PersistentTree<T> addChild(TreeNode<T> parent, TreeNode<T> subtree) {
+    return addChild(parent, toEntry(subtree));
+  }
+
+  private PersistentTree<T> addChild(TreeNode<T> parent, Entry<T> child) {
+    final Node<T> node = cursor(parent);
+    final Entry<T>[] children = Arrays.copyOf(node.entry.children, node.entry.children.length + 1);
+    children[children.length - 1] = child;
+    return replace(node, new Entry<>(node.entry.data, children, node.entry.size + child.size));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public PersistentTree<T> remove(TreeNode<T> node) {
+    final Node<T> cursor = cursor(node);
+    if (cursor.parent == null) {
+      throw new IllegalArgumentException("Root can't be removed");
+    }
+    final Entry<T> parent = cursor.parent.entry;
+    final Entry<T>[] children = new Entry[parent.children.length - 1];
+    System.arraycopy(parent.children, 0, children, 0, cursor.childIndex);
+    System.arraycopy(parent.children, cursor.childIndex + 1, children, cursor.childIndex,
+        children.length - cursor.childIndex);
+    return replace(cursor.parent, new Entry<>(parent.data, children, parent.size - cursor.entry.size));
+  }
+
+  public PersistentTree<T> setData(TreeNode<T> node, T data) {
+    final Node<T> cursor = cursor(node);
+    return replace(cursor, new Entry<>(data, cursor.entry.children, cursor.entry.size));
+  }
+
+  /**
+   * Finds the node at the same position in this version, e.g. to follow a node of an older version.
+   */
+  @SuppressWarnings("unchecked")
+  public TreeNode<T> find(TreeNode<T> node) {
+    if (!(node instanceof PersistentTree.Node)) {
+      return null;
+    }
+    int depth = 0;
+    for (Node<T> n = (Node<T>) node; n.parent != null; n = n.parent) {
+      ++depth;
+    }
+    final int[] path = new int[depth];
+    for (Node<T> n = (Node<T>) node; n.parent != null; n = n.parent) {
+      path[--depth] = n.childIndex;
+    }
+    Node<T> current = new Node<>(this, root, null, -1);
+    for (int childIndex : path) {
+      if (childIndex >= current.entry.children.length) {
+        return null;
+      }
+      current = new Node<>(this, current.entry.children[childIndex], current, childIndex);
+    }
+    return current;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Node<T> cursor(TreeNode<T> node) {
+    if (!(node instanceof PersistentTree.Node) || ((Node<T>) node).tree != this) {
+      throw new IllegalArgumentException("Node doesn't belong to this version of the tree");
+    }
+    return (Node<T>) node;
+  }
+
+  private static <T> PersistentTree<T> replace(Node<T> node, Entry<T> replacement) {
+    int sizeDelta = replacement.size - node.entry.size;
+    Entry<T> current = replacement;
+    for (Node<T> n = node; n.parent != null; n = n.parent) {
+      final Entry<T> parent = n.parent.entry;
+      final Entry<T>[] children = parent.children.clone();
+      children[n.childIndex] = current;
+      current = new Entry<>(parent.data, children, parent.size + sizeDelta);
+    }
+    return new PersistentTree<>(current);
+  }
+
+  private static final class Entry<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final Entry[] NO_CHILDREN = new Entry[0];
+
+    private final T data;
+    private final Entry<T>[] children;
+    private final int size;
+
+    private Entry(T data, Entry<T>[] children, int size) {
+      this.data = data;
+      this.children = children;
+      this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Entry<T>[] noChildren() {
+      return NO_CHILDREN;
+    }
+  }
+
+  private static final class Node<T> extends AbstractTreeNode<T> {
+
+    private final PersistentTree<T> tree;
+    private final Entry<T> entry;
+    private final Node<T> parent;
+    private final int childIndex;
+
+    private Node(PersistentTree<T> tree, Entry<T> entry, Node<T> parent, int childIndex) {
+      this.tree = tree;
+      this.entry = entry;
+      this.parent = parent;
+      this.childIndex = childIndex;
+    }
+
+    @Override
+    public T getData() {
+      return entry.data;
+    }
+
+    @Override
+    public TreeNode<T> getParent() {
+      return parent;
+    }
+
+    @Override
+    public List<TreeNode<T>> getChildren() {
+      final Entry<T>[] children = entry.children;
+      if (children.length == 0) {
+        return List.of();
+      }
+      final List<TreeNode<T>> result = new ArrayList<>(children.length);
+      for (int i = 0; i < children.length; ++i) {
+        result.add(new Node<>(tree, children[i], this, i));
+      }
+      return result;
+    }
+
+    @Override
+    public boolean hasChildren() {
+      return entry.children.length > 0;
+    }
+
+    @Override
+    public int size() {
+      return entry.size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof PersistentTree.Node)) {
+        return false;
+      }
+      Node<T> a = this;
+      Node<T> b = (Node<T>) o;
+      if (a.tree != b.tree) {
+        return false;
+      }
+      while (a != null && b != null && a != b) {
+        if (a.entry != b.entry || a.childIndex != b.childIndex) {
+          return false;
+        }
+        a = a.parent;
+        b = b.parent;
+      }
+      return a == b;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(entry);
+    }
+  }
+}
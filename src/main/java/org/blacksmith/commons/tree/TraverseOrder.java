@@ -0,0 +1,8 @@
+package org.blacksmith.commons.tree;
+
+public enum TraverseOrder {
+  PRE,
+  POST,
+  BREADTH,
+  REV
+}
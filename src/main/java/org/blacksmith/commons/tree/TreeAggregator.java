@@ -0,0 +1,106 @@
+package org.blacksmith.commons.tree;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Keeps an aggregate of every subtree: {@code mapper} gives the value of a node, {@code combiner} folds it with the
+ * aggregates of its children (in children order). The tree doesn't publish changes, so modifications have to be
+ * reported with {@link #dataChanged}, {@link #childAdded} and {@link #childRemoved}; each of them recomputes only the
+ * changed node and its ancestors, O(depth * children).
+ * <p>
+ * For sums of {@code double} or {@code long} values {@link DoubleTreeAggregator} and {@link LongTreeAggregator} avoid
+ * boxing and children scans.
+ */
+public final class TreeAggregator<T, A> {
+
+  private final TreeNode<T> root;
+  private final Function<T, A> mapper;
+  private final BinaryOperator<A> combiner;
+  private final Map<TreeNode<T>, A> aggregates = new HashMap<>();
+
+  private TreeAggregator(TreeNode<T> root, Function<T, A> mapper, BinaryOperator<A> combiner) {
+    this.root = root;
+    this.mapper = mapper;
+    this.combiner = combiner;
+    computeSubtree(root);
+  }
+
+  public static <T, A> TreeAggregator<T, A> of(TreeNode<T> root, Function<T, A> mapper, BinaryOperator<A> combiner) {
+    return new TreeAggregator<>(root, mapper, combiner);
+  }
+
+  public TreeNode<T> getRoot() {
+    return root;
+  }
+
+  /**
+   * Aggregate of the subtree, {@code null} for a node which isn't in the tree.
+   */
+  public A get(TreeNode<T> node) {
+    return aggregates.get(node);
+  }
+
+  public A get() {
+    return aggregates.get(root);
+  }
+
+  public void dataChanged(TreeNode<T> node) {
+    recomputePath(node);
+  }
+
+  /**
+   * Computes aggregates of the added subtree and updates its ancestors.
+   */
+  public void childAdded(TreeNode<T> child) {
+    computeSubtree(child);
+    recomputePath(child.getParent());
+  }
+
+  /**
+   * Drops aggregates of the removed subtree and updates ancestors of its former parent.
+   */
+  public void childRemoved(TreeNode<T> parent, TreeNode<T> child) {
+    final List<TreeNode<T>> removed = child.toList();
+    for (int i = 0; i < removed.size(); ++i) {
+      aggregates.remove(removed.get(i));
+    }
+    recomputePath(parent);
+  }
+
+  /**
+   * Recomputes the whole tree.
+   */
+  public void recompute() {
+    aggregates.clear();
+    computeSubtree(root);
+  }
+
+  private void computeSubtree(TreeNode<T> node) {
+    final FrozenTree<T> tree = FrozenTree.of(node);
+    for (int i = tree.size() - 1; i >= 0; --i) {
+      compute(tree.getSource(i));
+    }
+  }
+
+  private void recomputePath(TreeNode<T> node) {
+    for (TreeNode<T> n = node; n != null; n = n.getParent()) {
+      compute(n);
+      if (n == root) {
+        break;
+      }
+    }
+  }
+
+  private void compute(TreeNode<T> node) {
+    A result = mapper.apply(node.getData());
+    final List<TreeNode<T>> children = node.getChildren();
+    for (int i = 0; i < children.size(); ++i) {
+      result = combiner.apply(result, aggregates.get(children.get(i)));
+    }
+    aggregates.put(node, result);
+  }
+}
@@ -0,0 +1,195 @@
+package org.blacksmith.commons.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bulk builder of {@link BTreeNode} trees from {@code (id, parentId, data)} rows, e.g. rows of a hierarchy table.
+ * <p>
+ * Rows may come in any order. A row is a root when its parent id equals the root parent id ({@code 0} by default,
+ * which is what {@code ResultSet.getLong} returns for {@code NULL}). The build counts children first, so every node
+ * is created with a children list of the exact size, then links nodes breadth-first from the roots. Duplicate ids,
+ * orphans (parent id not found) and cycles (rows not reachable from any root) are reported with
+ * {@link IllegalArgumentException}.
+ */
+public final class TreeBuilder<T> {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private final long rootParentId;
+  private long[] ids;
+  private long[] parentIds;
+  private Object[] data;
+  private int size;
+
+  public TreeBuilder() {
+    this(0L, DEFAULT_CAPACITY);
+  }
+
+  public TreeBuilder(long rootParentId, int expectedSize) {
+    int capacity = Math.max(expectedSize, 1);
+    this.rootParentId = rootParentId;
+    this.ids = new long[capacity];
+    this.parentIds = new long[capacity];
+    this.data = new Object[capacity];
+  }
+
+  public static <T> TreeBuilder<T> of(long[] ids, long[] parentIds, T[] data) {
+    return new TreeBuilder<T>(0L, ids.length).addAll(ids, parentIds, data);
+  }
+
+  public TreeBuilder<T> add(long id, long parentId, T data) {
+    if (size == ids.length) {
+      int capacity = size << 1;
+      ids = Arrays.copyOf(ids, capacity);
+      parentIds = Arrays.copyOf(parentIds, capacity);
+      this.data = Arrays.copyOf(this.data, capacity);
+    }
+    ids[size] = id;
+    parentIds[size] = parentId;
+    this.data[size] = data;
+    ++size;
+    return this;
+  }
+
+  public TreeBuilder<T> addAll(long[] ids, long[] parentIds, T[] data) {
+    if (ids.length != parentIds.length || ids.length != data.length) {
+      throw new IllegalArgumentException("Arrays must have the same length");
+    }
+    for (int i = 0; i < ids.length; ++i) {
+      add(ids[i], parentIds[i], data[i]);
+    }
+    return this;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Builds a tree with a single root.
+   */
+  public BTreeNode<T> build() {
+    final List<BTreeNode<T>> roots = buildForest();
+    if (roots.size() != 1) {
+      throw new IllegalArgumentException("Expected a single root, found " + roots.size());
+    }
+    return roots.get(0);
+  }
+
+  /**
+   * Builds all trees, roots are in row order, children of every node are in row order.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public List<BTreeNode<T>> buildForest() {
+    final LongIntMap rowById = new LongIntMap(size);
+    for (int i = 0; i < size; ++i) {
+      if (!rowById.putIfAbsent(ids[i], i)) {
+        throw new IllegalArgumentException("Duplicate node id " + ids[i]);
+      }
+    }
+    final int[] childStart = new int[size + 1];
+    final int[] parentRow = new int[size];
+    int rootCount = 0;
+    for (int i = 0; i < size; ++i) {
+      if (parentIds[i] == rootParentId) {
+        parentRow[i] = -1;
+        ++rootCount;
+      } else {
+        int p = rowById.get(parentIds[i]);
+        if (p < 0) {
+          throw new IllegalArgumentException("Orphan node id " + ids[i] + ", parent id " + parentIds[i] + " not found");
+        }
+        parentRow[i] = p;
+        ++childStart[p + 1];
+      }
+    }
+    for (int i = 0; i < size; ++i) {
+      childStart[i + 1] += childStart[i];
+    }
+    final int[] childRows = new int[size - rootCount];
+    final int[] fill = new int[size];
+    final int[] queue = new int[size];
+    int tail = 0;
+    for (int i = 0; i < size; ++i) {
+      int p = parentRow[i];
+      if (p < 0) {
+        queue[tail++] = i;
+      } else {
+        childRows[childStart[p] + fill[p]++] = i;
+      }
+    }
+    final BTreeNode<T>[] nodes = new BTreeNode[size];
+    final List<BTreeNode<T>> roots = new ArrayList<>(rootCount);
+    for (int i = 0; i < rootCount; ++i) {
+      int row = queue[i];
+      nodes[row] = new BTreeNode<>((T) data[row], fill[row]);
+      roots.add(nodes[row]);
+    }
+    for (int head = 0; head < tail; ++head) {
+      int row = queue[head];
+      final BTreeNode<T> node = nodes[row];
+      for (int c = childStart[row]; c < childStart[row + 1]; ++c) {
+        int child = childRows[c];
+        nodes[child] = node.addChild(new BTreeNode<>((T) data[child], fill[child]));
+        queue[tail++] = child;
+      }
+    }
+    if (tail < size) {
+      for (int i = 0; i < size; ++i) {
+        if (nodes[i] == null) {
+          throw new IllegalArgumentException("Cycle detected at node id " + ids[i]);
+        }
+      }
+    }
+    return roots;
+  }
+
+  /**
+   * Open addressing map of non-negative int values, {@link #get} returns -1 for a missing key.
+   */
+  private static final class LongIntMap {
+
+    private final long[] keys;
+    private final int[] values;
+    private final int mask;
+
+    private LongIntMap(int expectedSize) {
+      int capacity = Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) << 1;
+      this.keys = new long[capacity];
+      this.values = new int[capacity];
+      this.mask = capacity - 1;
+      Arrays.fill(values, -1);
+    }
+
+    private static int hash(long key) {
+      long h = key * 0x9E3779B97F4A7C15L;
+      return (int) (h ^ (h >>> 32));
+    }
+
+    private boolean putIfAbsent(long key, int value) {
+      int i = hash(key) & mask;
+      while (values[i] >= 0) {
+        if (keys[i] == key) {
+          return false;
+        }
+        i = (i + 1) & mask;
+      }
+      keys[i] = key;
+      values[i] = value;
+      return true;
+    }
+
+    private int get(long key) {
+      int i = hash(key) & mask;
+      while (values[i] >= 0) {
+        if (keys[i] == key) {
+          return values[i];
+        }
+        i = (i + 1) & mask;
+      }
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,296 @@
+package org.blacksmith.commons.tree;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary format of a tree. Layout (big endian):
+ * <pre>
+ *   int magic, int version, int nodeCount
+ *   int[nodeCount]     parent index of every node in pre-order (-1 for the root)
+ *   int[nodeCount]     index of the last descendant of every node
+ *   int[nodeCount + 1] payload offsets, relative to the payload start
+ *   byte[]             payloads encoded with {@link PayloadCodec}
+ * </pre>
+ * A buffer can be read into {@link BTreeNode}s with {@link #decode} or used in place with {@link #view}, which returns
+ * a read-only {@link TreeNode} decoding payloads on access; {@link #map} does the same for a memory-mapped file.
+ */
+public final class TreeCodec<T> {
+
+  private static final int MAGIC = 0x54524545;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 12;
+
+  private final PayloadCodec<T> payloadCodec;
+
+  private TreeCodec(PayloadCodec<T> payloadCodec) {
+    this.payloadCodec = payloadCodec;
+  }
+
+  public static <T> TreeCodec<T> of(PayloadCodec<T> payloadCodec) {
+    return new TreeCodec<>(payloadCodec);
+  }
+
+  public byte[] encode(TreeNode<T> root) {
+    final FrozenTree<T> tree = FrozenTree.of(root);
+    final int n = tree.size();
+    final byte[][] payloads = new byte[n][];
+    long payloadSize = 0;
+    for (int i = 0; i < n; ++i) {
+      payloads[i] = payloadCodec.encode(tree.getData(i));
+      payloadSize += payloads[i].length;
+    }
+    final long total = HEADER_SIZE + 4L * (3L * n + 1) + payloadSize;
+    if (total > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Tree too big to encode: " + total + " bytes");
+    }
+    final ByteBuffer buffer = ByteBuffer.allocate((int) total);
+    buffer.putInt(MAGIC).putInt(VERSION).putInt(n);
+    for (int i = 0; i < n; ++i) {
+      buffer.putInt(tree.getParent(i));
+    }
+    for (int i = 0; i < n; ++i) {
+      buffer.putInt(tree.getEnd(i));
+    }
+    int offset = 0;
+    for (int i = 0; i < n; ++i) {
+      buffer.putInt(offset);
+      offset += payloads[i].length;
+    }
+    buffer.putInt(offset);
+    for (int i = 0; i < n; ++i) {
+      buffer.put(payloads[i]);
+    }
+    return buffer.array();
+  }
+
+  public void write(TreeNode<T> root, Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      final ByteBuffer buffer = ByteBuffer.wrap(encode(root));
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  /**
+   * Materializes the tree stored in the buffer, starting at the buffer position.
+   */
+  public BTreeNode<T> decode(ByteBuffer buffer) {
+    final View view = new View(buffer);
+    final int n = view.size;
+    final List<BTreeNode<T>> nodes = new ArrayList<>(n);
+    for (int i = 0; i < n; ++i) {
+      final BTreeNode<T> node = new BTreeNode<>(view.getData(i), view.getChildCount(i));
+      int parent = view.getParent(i);
+      if (parent >= 0) {
+        nodes.get(parent).addChild(node);
+      }
+      nodes.add(node);
+    }
+    return nodes.get(0);
+  }
+
+  public BTreeNode<T> decode(byte[] bytes) {
+    return decode(ByteBuffer.wrap(bytes));
+  }
+
+  public BTreeNode<T> read(Path path) throws IOException {
+    return decode(mapFile(path));
+  }
+
+  /**
+   * Read-only tree backed by the buffer, nothing is copied up front.
+   */
+  public TreeNode<T> view(ByteBuffer buffer) {
+    return new View(buffer).getNode(0);
+  }
+
+  /**
+   * Read-only tree backed by the memory-mapped file.
+   */
+  public TreeNode<T> map(Path path) throws IOException {
+    return view(mapFile(path));
+  }
+
+  private static ByteBuffer mapFile(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+  }
+
+  private final class View {
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int parentStart;
+    private final int endStart;
+    private final int offsetStart;
+    private final int payloadStart;
+
+    private View(ByteBuffer source) {
+      this.buffer = source.asReadOnlyBuffer();
+      final int base = source.position();
+      if (buffer.remaining() < HEADER_SIZE || buffer.getInt(base) != MAGIC) {
+        throw new IllegalArgumentException("Not an encoded tree");
+      }
+      if (buffer.getInt(base + 4) != VERSION) {
+        throw new IllegalArgumentException("Unsupported version: " + buffer.getInt(base + 4));
+      }
+      this.size = buffer.getInt(base + 8);
+      this.parentStart = base + HEADER_SIZE;
+      this.endStart = parentStart + 4 * size;
+      this.offsetStart = endStart + 4 * size;
+      this.payloadStart = offsetStart + 4 * (size + 1);
+    }
+
+    private int getParent(int index) {
+      return buffer.getInt(parentStart + 4 * index);
+    }
+
+    private int getEnd(int index) {
+      return buffer.getInt(endStart + 4 * index);
+    }
+
+    private int getChildCount(int index) {
+      int count = 0;
+      final int end = getEnd(index);
+      for (int child = index + 1; child <= end; child = getEnd(child) + 1) {
+        ++count;
+      }
+      return count;
+    }
+
+    private T getData(int index) {
+      final int from = buffer.getInt(offsetStart + 4 * index);
+      final int to = buffer.getInt(offsetStart + 4 * (index + 1));
+      return payloadCodec.decode(buffer, payloadStart + from, to - from);
+    }
+
+    private Node getNode(int index) {
+      return new Node(this, index);
+    }
+  }
+
+  private final class Node extends AbstractTreeNode<T> {
+
+    private final View view;
+    private final int index;
+
+    private Node(View view, int index) {
+      this.view = view;
+      this.index = index;
+    }
+
+    @Override
+    public T getData() {
+      return view.getData(index);
+    }
+
+    @Override
+    public TreeNode<T> getParent() {
+      int parent = view.getParent(index);
+      return parent < 0 ? null : view.getNode(parent);
+    }
+
+    @Override
+    public List<TreeNode<T>> getChildren() {
+      final int end = view.getEnd(index);
+      if (end == index) {
+        return List.of();
+      }
+      final List<TreeNode<T>> children = new ArrayList<>();
+      for (int child = index + 1; child <= end; child = view.getEnd(child) + 1) {
+        children.add(view.getNode(child));
+      }
+      return children;
+    }
+
+    @Override
+    public boolean hasChildren() {
+      return view.getEnd(index) != index;
+    }
+
+    @Override
+    public int size() {
+      return view.getEnd(index) - index + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof TreeCodec.Node)) {
+        return false;
+      }
+      Node node = (Node) o;
+      return node.view == view && node.index == index;
+    }
+
+    @Override
+    public int hashCode() {
+      return index;
+    }
+  }
+
+  /**
+   * Encodes node data. {@code decode} reads {@code length} bytes at the absolute {@code offset} of the buffer and
+   * must not change the buffer position.
+   */
+  public interface PayloadCodec<T> {
+
+    PayloadCodec<Long> LONG = new PayloadCodec<>() {
+      @Override
+      public byte[] encode(Long data) {
+        return data == null ? new byte[0] : ByteBuffer.allocate(Long.BYTES).putLong(data).array();
+      }
+
+      @Override
+      public Long decode(ByteBuffer buffer, int offset, int length) {
+        return length == 0 ? null : buffer.getLong(offset);
+      }
+    };
+
+    PayloadCodec<Integer> INTEGER = new PayloadCodec<>() {
+      @Override
+      public byte[] encode(Integer data) {
+        return data == null ? new byte[0] : ByteBuffer.allocate(Integer.BYTES).putInt(data).array();
+      }
+
+      @Override
+      public Integer decode(ByteBuffer buffer, int offset, int length) {
+        return length == 0 ? null : buffer.getInt(offset);
+      }
+    };
+
+    /**
+     * UTF-8 strings, {@code null} is stored as an empty string.
+     */
+    PayloadCodec<String> STRING = new PayloadCodec<>() {
+      @Override
+      public byte[] encode(String data) {
+        return data == null ? new byte[0] : data.getBytes(StandardCharsets.UTF_8);
+      }
+
+      @Override
+      public String decode(ByteBuffer buffer, int offset, int length) {
+        final byte[] bytes = new byte[length];
+        buffer.duplicate().position(offset).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+      }
+    };
+
+    byte[] encode(T data);
+
+    T decode(ByteBuffer buffer, int offset, int length);
+  }
+}
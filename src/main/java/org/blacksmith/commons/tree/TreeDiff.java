@@ -0,0 +1,312 @@
+package org.blacksmith.commons.tree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Computes edit scripts between two trees. Nodes are matched by a key taken from their data, keys have to be unique
+ * within a tree and both roots must have the same key.
+ * <p>
+ * A patch lists {@link Operation#INSERT} and {@link Operation#MOVE} edits in pre-order of the new tree, then
+ * {@link Operation#UPDATE} edits, then {@link Operation#DELETE} edits of the top-most removed nodes. Positions are
+ * given by the parent key and the key of the preceding sibling ({@code null} for the first child). Children keeping
+ * their parent are moved only if they are outside the longest sequence of children which kept their order.
+ */
+public final class TreeDiff<T, K> {
+
+  public enum Operation {
+    INSERT, MOVE, UPDATE, DELETE
+  }
+
+  private final Function<T, K> keyFunction;
+  private final BiPredicate<T, T> dataEquals;
+
+  private TreeDiff(Function<T, K> keyFunction, BiPredicate<T, T> dataEquals) {
+    this.keyFunction = keyFunction;
+    this.dataEquals = dataEquals;
+  }
+
+  public static <T, K> TreeDiff<T, K> of(Function<T, K> keyFunction) {
+    return new TreeDiff<>(keyFunction, Objects::equals);
+  }
+
+  public static <T, K> TreeDiff<T, K> of(Function<T, K> keyFunction, BiPredicate<T, T> dataEquals) {
+    return new TreeDiff<>(keyFunction, dataEquals);
+  }
+
+  public Patch<T, K> diff(TreeNode<T> oldRoot, TreeNode<T> newRoot) {
+    final Map<K, OldNode<T, K>> oldNodes = indexOld(oldRoot);
+    final K rootKey = keyFunction.apply(newRoot.getData());
+    if (!Objects.equals(rootKey, keyFunction.apply(oldRoot.getData()))) {
+      throw new IllegalArgumentException("Roots must have the same key");
+    }
+    final List<Edit<T, K>> structure = new ArrayList<>();
+    final List<Edit<T, K>> updates = new ArrayList<>();
+    final Map<K, Boolean> newKeys = new HashMap<>();
+    newKeys.put(rootKey, Boolean.TRUE);
+    if (!dataEquals.test(oldRoot.getData(), newRoot.getData())) {
+      updates.add(new Edit<>(Operation.UPDATE, rootKey, null, null, newRoot.getData()));
+    }
+    final Deque<TreeNode<T>> dq = new ArrayDeque<>();
+    dq.add(newRoot);
+    TreeNode<T> n;
+    while ((n = dq.pollLast()) != null) {
+      final K parentKey = keyFunction.apply(n.getData());
+      final List<TreeNode<T>> children = n.getChildren();
+      final int count = children.size();
+      final List<K> keys = new ArrayList<>(count);
+      final int[] oldPositions = new int[count];
+      for (int i = 0; i < count; ++i) {
+        final T data = children.get(i).getData();
+        final K key = keyFunction.apply(data);
+        if (newKeys.put(key, Boolean.TRUE) != null) {
+          throw new IllegalArgumentException("Duplicate key " + key);
+        }
+        keys.add(key);
+        final OldNode<T, K> old = oldNodes.get(key);
+        oldPositions[i] = old != null && Objects.equals(old.parentKey, parentKey) ? old.position : -1;
+        if (old != null && !dataEquals.test(old.data, data)) {
+          updates.add(new Edit<>(Operation.UPDATE, key, null, null, data));
+        }
+      }
+      final boolean[] stay = longestIncreasing(oldPositions);
+      for (int i = 0; i < count; ++i) {
+        if (!stay[i]) {
+          final K key = keys.get(i);
+          final K after = i == 0 ? null : keys.get(i - 1);
+          if (oldNodes.containsKey(key)) {
+            structure.add(new Edit<>(Operation.MOVE, key, parentKey, after, null));
+          } else {
+            structure.add(new Edit<>(Operation.INSERT, key, parentKey, after, children.get(i).getData()));
+          }
+        }
+      }
+      for (int i = count - 1; i >= 0; --i) {
+        dq.add(children.get(i));
+      }
+    }
+    structure.addAll(updates);
+    for (OldNode<T, K> old : oldNodes.values()) {
+      if (!newKeys.containsKey(old.key) && newKeys.containsKey(old.parentKey)) {
+        structure.add(new Edit<>(Operation.DELETE, old.key, null, null, null));
+      }
+    }
+    return new Patch<>(keyFunction, structure);
+  }
+
+  private Map<K, OldNode<T, K>> indexOld(TreeNode<T> root) {
+    final Map<K, OldNode<T, K>> nodes = new HashMap<>();
+    final Deque<OldNode<T, K>> dq = new ArrayDeque<>();
+    final OldNode<T, K> rootNode = new OldNode<>(root, keyFunction.apply(root.getData()), null, 0);
+    nodes.put(rootNode.key, rootNode);
+    dq.add(rootNode);
+    OldNode<T, K> n;
+    while ((n = dq.pollLast()) != null) {
+      final List<TreeNode<T>> children = n.node.getChildren();
+      for (int i = children.size() - 1; i >= 0; --i) {
+        final TreeNode<T> child = children.get(i);
+        final OldNode<T, K> childNode = new OldNode<>(child, keyFunction.apply(child.getData()), n.key, i);
+        if (nodes.put(childNode.key, childNode) != null) {
+          throw new IllegalArgumentException("Duplicate key " + childNode.key);
+        }
+        dq.add(childNode);
+      }
+    }
+    return nodes;
+  }
+
+  /**
+   * Marks elements of the longest strictly increasing subsequence of non-negative values.
+   */
+  private static boolean[] longestIncreasing(int[] values) {
+    final int count = values.length;
+    final boolean[] result = new boolean[count];
+    final int[] tails = new int[count];
+    final int[] previous = new int[count];
+    int length = 0;
+    for (int i = 0; i < count; ++i) {
+      if (values[i] < 0) {
+        continue;
+      }
+      int low = 0;
+      int high = length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (values[tails[mid]] < values[i]) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      previous[i] = low > 0 ? tails[low - 1] : -1;
+      tails[low] = i;
+      if (low == length) {
+        ++length;
+      }
+    }
+    for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+      result[i] = true;
+    }
+    return result;
+  }
+
+  private static final class OldNode<T, K> {
+
+    private final TreeNode<T> node;
+    private final T data;
+    private final K key;
+    private final K parentKey;
+    private final int position;
+
+    private OldNode(TreeNode<T> node, K key, K parentKey, int position) {
+      this.node = node;
+      this.data = node.getData();
+      this.key = key;
+      this.parentKey = parentKey;
+      this.position = position;
+    }
+  }
+
+  public static final class Edit<T, K> {
+
+    private final Operation operation;
+    private final K key;
+    private final K parentKey;
+    private final K afterKey;
+    private final T data;
+
+    private Edit(Operation operation, K key, K parentKey, K afterKey, T data) {
+      this.operation = operation;
+      this.key = key;
+      this.parentKey = parentKey;
+      this.afterKey = afterKey;
+      this.data = data;
+    }
+
+    public Operation getOperation() {
+      return operation;
+    }
+
+    public K getKey() {
+      return key;
+    }
+
+    /**
+     * New parent for {@code INSERT} and {@code MOVE}.
+     */
+    public K getParentKey() {
+      return parentKey;
+    }
+
+    /**
+     * Preceding sibling for {@code INSERT} and {@code MOVE}, {@code null} for the first child.
+     */
+    public K getAfterKey() {
+      return afterKey;
+    }
+
+    /**
+     * New data for {@code INSERT} and {@code UPDATE}.
+     */
+    public T getData() {
+      return data;
+    }
+
+    @Override
+    public String toString() {
+      return operation + " " + key + (parentKey == null ? "" : " under " + parentKey + " after " + afterKey);
+    }
+  }
+
+  public static final class Patch<T, K> {
+
+    private final Function<T, K> keyFunction;
+    private final List<Edit<T, K>> edits;
+
+    private Patch(Function<T, K> keyFunction, List<Edit<T, K>> edits) {
+      this.keyFunction = keyFunction;
+      this.edits = Collections.unmodifiableList(edits);
+    }
+
+    public List<Edit<T, K>> getEdits() {
+      return edits;
+    }
+
+    public boolean isEmpty() {
+      return edits.isEmpty();
+    }
+
+    public int size() {
+      return edits.size();
+    }
+
+    void applyTo(BTreeNode<T> root) {
+      final Map<K, BTreeNode<T>> nodes = new HashMap<>();
+      final List<TreeNode<T>> all = root.toList();
+      for (int i = 0; i < all.size(); ++i) {
+        nodes.put(keyFunction.apply(all.get(i).getData()), (BTreeNode<T>) all.get(i));
+      }
+      for (Edit<T, K> edit : edits) {
+        switch (edit.operation) {
+          case INSERT: {
+            final BTreeNode<T> parent = find(nodes, edit.parentKey);
+            nodes.put(edit.key, parent.addChildWith(position(nodes, parent, edit.afterKey), edit.data));
+            break;
+          }
+          case MOVE: {
+            final BTreeNode<T> node = find(nodes, edit.key);
+            final BTreeNode<T> parent = find(nodes, edit.parentKey);
+            node.getParent().removeChild(node);
+            parent.addChild(position(nodes, parent, edit.afterKey), node);
+            break;
+          }
+          case UPDATE:
+            find(nodes, edit.key).setData(edit.data);
+            break;
+          case DELETE: {
+            final BTreeNode<T> node = nodes.remove(edit.key);
+            if (node == null) {
+              throw new IllegalArgumentException("Unknown node key " + edit.key);
+            }
+            node.getParent().removeChild(node);
+            break;
+          }
+          default:
+            throw new IllegalStateException("Unsupported operation: " + edit.operation);
+        }
+      }
+    }
+
+    private static <T, K> BTreeNode<T> find(Map<K, BTreeNode<T>> nodes, K key) {
+      final BTreeNode<T> node = nodes.get(key);
+      if (node == null) {
+        throw new IllegalArgumentException("Unknown node key " + key);
+      }
+      return node;
+    }
+
+    private static <T, K> int position(Map<K, BTreeNode<T>> nodes, BTreeNode<T> parent, K afterKey) {
+      if (afterKey == null) {
+        return 0;
+      }
+      final int index = parent.getChildren().indexOf(find(nodes, afterKey));
+      if (index < 0) {
+        throw new IllegalArgumentException("Node " + afterKey + " is not a child of " + parent.getData());
+      }
+      return index + 1;
+    }
+
+    @Override
+    public String toString() {
+      return edits.toString();
+    }
+  }
+}
@@ -1,13 +1,28 @@
 package org.blacksmith.commons.tree;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
-import java.util.LinkedList;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Function;
 
+/**
+ * Generates trees for tests and benchmarks. Data of the n-th generated node (the populated node is the first one) is
+ * taken from {@code dataSupplier}, children are created with {@link TreeNode#addChildWith}, so the tree is made of
+ * nodes of the same implementation as the root given by {@code nodeSupplier}.
+ * <p>
+ * {@link #populateTotal} and {@link #populateRegular} fill a complete tree level by level: the n-th node (counting
+ * from 0) is the parent of nodes {@code n * maxChildrenCount + 1 .. n * maxChildrenCount + maxChildrenCount}. The
+ * parallel variants build the same tree with fork/join tasks, the node implementation must allow different nodes to
+ * be modified from different threads (as {@link BTreeNode} does).
+ */
 public class TreeFactory<T> {
 
+  private static final int PARALLEL_THRESHOLD = 10_000;
+
   @FunctionalInterface
   public interface PopulatorFunction<T> {
     void populate(TreeNode<T> node, int maxTotalCount, int maxChildrenCount);
@@ -15,9 +30,15 @@ public class TreeFactory<T> {
   }
 
   private final Function<Integer, T> dataSupplier;
+  private final Function<T, ? extends TreeNode<T>> nodeSupplier;
 
   public TreeFactory(Function<Integer, T> dataSupplier) {
+    this(dataSupplier, BTreeNode::new);
+  }
+
+  public TreeFactory(Function<Integer, T> dataSupplier, Function<T, ? extends TreeNode<T>> nodeSupplier) {
     this.dataSupplier = dataSupplier;
+    this.nodeSupplier = nodeSupplier;
   }
 
   public static Function<Integer, Long> createLongSupplier() {
@@ -28,32 +49,184 @@ public class TreeFactory<T> {
     return t -> t;
   }
 
+  /**
+   * Creates a root with data of the first node and populates it, e.g.
+   * {@code factory.create(1000, 3, factory::populateTotal)}.
+   */
+  public TreeNode<T> create(int maxTotalCount, int maxChildrenCount, PopulatorFunction<T> populator) {
+    final TreeNode<T> root = nodeSupplier.apply(dataSupplier.apply(1));
+    populator.populate(root, maxTotalCount, maxChildrenCount);
+    return root;
+  }
+
+  /**
+   * Complete tree of exactly {@code maxTotalCount} nodes.
+   */
   public void populateTotal(TreeNode<T> node, int maxTotalCount, int maxChildrenCount) {
-    final Deque<TreeNode<T>> queue = new LinkedList<>();
+    populateComplete(node, maxTotalCount, maxChildrenCount);
+  }
+
+  /**
+   * Complete tree where every inner node has {@code maxChildrenCount} children, the last level is filled up, so the
+   * tree may have up to {@code maxChildrenCount - 1} nodes more than {@code maxTotalCount}.
+   */
+  public void populateRegular(TreeNode<T> node, int maxTotalCount, int maxChildrenCount) {
+    populateComplete(node, regularCount(maxTotalCount, maxChildrenCount), maxChildrenCount);
+  }
+
+  public void populateTotalParallel(TreeNode<T> node, int maxTotalCount, int maxChildrenCount) {
+    populateCompleteParallel(node, maxTotalCount, maxChildrenCount);
+  }
+
+  public void populateRegularParallel(TreeNode<T> node, int maxTotalCount, int maxChildrenCount) {
+    populateCompleteParallel(node, regularCount(maxTotalCount, maxChildrenCount), maxChildrenCount);
+  }
+
+  private static int regularCount(int maxTotalCount, int maxChildrenCount) {
+    if (maxTotalCount <= 1 || maxChildrenCount <= 0) {
+      return 1;
+    }
+    final long inner = (maxTotalCount - 2L) / maxChildrenCount + 1;
+    return (int) Math.min(inner * maxChildrenCount + 1, Integer.MAX_VALUE);
+  }
+
+  private void populateComplete(TreeNode<T> node, int totalCount, int maxChildrenCount) {
+    final Deque<TreeNode<T>> queue = new ArrayDeque<>();
     queue.add(node);
-    int counter = 1;
+    long index = 0;
     TreeNode<T> n;
     while ((n = queue.pollFirst()) != null) {
-      int toPopulate = Math.min(maxChildrenCount, maxTotalCount - counter);
-      for (int i = 0; i < toPopulate; i++) {
-        ++counter;
-        queue.add(node.addChildWith(dataSupplier.apply(counter)));
+      final long first = index * maxChildrenCount + 1;
+      final int count = childrenCount(first, totalCount, maxChildrenCount);
+      n.ensureChildrenCapacity(count);
+      for (int i = 0; i < count; ++i) {
+        queue.add(n.addChildWith(dataSupplier.apply((int) first + i + 1)));
       }
+      ++index;
     }
   }
 
-  public void populateRegular(TreeNode<T> node, int maxTotalCount, int maxChildrenCount) {
-    final Deque<TreeNode<T>> queue = new LinkedList<>();
-    queue.add(node);
-    int counter = 1;
-    TreeNode<T> n;
-    while ((n = queue.pollFirst()) != null) {
-      if (counter < maxTotalCount) {
-        for (int i = 0; i < maxChildrenCount; i++) {
-          ++counter;
-          queue.add(n.addChildWith(dataSupplier.apply(counter)));
-        }
+  private void populateCompleteParallel(TreeNode<T> node, int totalCount, int maxChildrenCount) {
+    if (totalCount <= PARALLEL_THRESHOLD || maxChildrenCount <= 1) {
+      populateComplete(node, totalCount, maxChildrenCount);
+    } else {
+      ForkJoinPool.commonPool().invoke(new PopulateTask(node, 0, totalCount, maxChildrenCount));
+    }
+  }
+
+  private static int childrenCount(long first, int totalCount, int maxChildrenCount) {
+    return (int) Math.max(0, Math.min(maxChildrenCount, totalCount - first));
+  }
+
+  /**
+   * Number of nodes in the subtree of the n-th node of a complete tree.
+   */
+  private static long subtreeSize(long index, int totalCount, int maxChildrenCount) {
+    long size = 0;
+    long low = index;
+    long high = index;
+    while (low < totalCount) {
+      size += Math.min(high, totalCount - 1L) - low + 1;
+      low = low * maxChildrenCount + 1;
+      high = high * maxChildrenCount + maxChildrenCount;
+    }
+    return size;
+  }
+
+  private final class PopulateTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final TreeNode<T> node;
+    private final long index;
+    private final int totalCount;
+    private final int maxChildrenCount;
+
+    private PopulateTask(TreeNode<T> node, long index, int totalCount, int maxChildrenCount) {
+      this.node = node;
+      this.index = index;
+      this.totalCount = totalCount;
+      this.maxChildrenCount = maxChildrenCount;
+    }
+
+    @Override
+    protected void compute() {
+      if (subtreeSize(index, totalCount, maxChildrenCount) <= PARALLEL_THRESHOLD) {
+        populateSubtree(node, index);
+        return;
+      }
+      final long first = index * maxChildrenCount + 1;
+      final int count = childrenCount(first, totalCount, maxChildrenCount);
+      node.ensureChildrenCapacity(count);
+      final List<PopulateTask> tasks = new ArrayList<>(count);
+      for (int i = 0; i < count; ++i) {
+        final TreeNode<T> child = node.addChildWith(dataSupplier.apply((int) first + i + 1));
+        tasks.add(new PopulateTask(child, first + i, totalCount, maxChildrenCount));
+      }
+      invokeAll(tasks);
+    }
+
+    /**
+     * Recursion depth is the height of a complete tree with at least 2 children per node, so it stays small.
+     */
+    private void populateSubtree(TreeNode<T> n, long nodeIndex) {
+      final long first = nodeIndex * maxChildrenCount + 1;
+      final int count = childrenCount(first, totalCount, maxChildrenCount);
+      n.ensureChildrenCapacity(count);
+      for (int i = 0; i < count; ++i) {
+        populateSubtree(n.addChildWith(dataSupplier.apply((int) first + i + 1)), first + i);
       }
     }
   }
+
+  /**
+   * Chain of nodes, each with a single child.
+   */
+  public void populateChain(TreeNode<T> node, int maxTotalCount) {
+    TreeNode<T> n = node;
+    for (int counter = 2; counter <= maxTotalCount; ++counter) {
+      n = n.addChildWith(dataSupplier.apply(counter));
+    }
+  }
+
+  /**
+   * All nodes are children of the given node.
+   */
+  public void populateFlat(TreeNode<T> node, int maxTotalCount) {
+    node.ensureChildrenCapacity(maxTotalCount - 1);
+    for (int counter = 2; counter <= maxTotalCount; ++counter) {
+      node.addChildWith(dataSupplier.apply(counter));
+    }
+  }
+
+  /**
+   * Random recursive tree, every node is attached to an uniformly chosen earlier node.
+   */
+  public void populateRandom(TreeNode<T> node, int maxTotalCount, long seed) {
+    final Random random = new Random(seed);
+    final List<TreeNode<T>> nodes = new ArrayList<>(maxTotalCount);
+    nodes.add(node);
+    for (int counter = 2; counter <= maxTotalCount; ++counter) {
+      nodes.add(nodes.get(random.nextInt(nodes.size())).addChildWith(dataSupplier.apply(counter)));
+    }
+  }
+
+  /**
+   * Preferential attachment: a node is attached to an earlier node with probability proportional to its children
+   * count + 1, so the fan-out follows a power law (few huge nodes, many leaves).
+   */
+  public void populatePowerLaw(TreeNode<T> node, int maxTotalCount, long seed) {
+    final Random random = new Random(seed);
+    final List<TreeNode<T>> nodes = new ArrayList<>(maxTotalCount);
+    final int[] targets = new int[Math.max(2 * maxTotalCount - 1, 1)];
+    int targetCount = 0;
+    nodes.add(node);
+    targets[targetCount++] = 0;
+    for (int counter = 2; counter <= maxTotalCount; ++counter) {
+      int parent = targets[random.nextInt(targetCount)];
+      nodes.add(nodes.get(parent).addChildWith(dataSupplier.apply(counter)));
+      targets[targetCount++] = nodes.size() - 1;
+      targets[targetCount++] = parent;
+    }
+  }
 }
@@ -0,0 +1,24 @@
+package org.blacksmith.commons.tree;
+
+import java.util.List;
+
+/**
+ * Secondary index of tree nodes by their data, used by {@link IndexedTreeNode}.
+ */
+public interface TreeIndex<T> {
+
+  void add(TreeNode<T> node);
+
+  void remove(TreeNode<T> node);
+
+  void update(TreeNode<T> node, T oldData);
+
+  /**
+   * Returns nodes having given data, empty list if there are none.
+   */
+  List<TreeNode<T>> get(T data);
+
+  int size();
+
+  void clear();
+}
@@ -0,0 +1,217 @@
+package org.blacksmith.commons.tree;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+
+/**
+ * Counters filled by {@link MeteredTreeNode} and
+ * {@link org.blacksmith.commons.tree.traverser.MeteredTreeTraverser}: visited nodes, subtrees pruned by
+ * {@code acceptChildren} (or {@code enter}), and calls with durations of every {@link Operation}. Durations are
+ * counted in a histogram of power of two buckets, bucket {@code i} holds durations in {@code [2^i, 2^(i+1))} ns.
+ * <p>
+ * Metrics are opt-in: nothing is counted for trees and traversers which are not wrapped, and wrappers of disabled
+ * metrics call the wrapped object directly. Counters are {@link LongAdder}s, so they can be shared by threads.
+ */
+public final class TreeMetrics {
+
+  public enum Operation {
+    TRAVERSE,
+    SIZE,
+    CONTAINS,
+    FIND_DESCENDANT_WITH,
+    FIND_DESCENDANTS_WITH,
+    FIND_TOP_DESCENDANTS_WITH
+  }
+
+  public static final int BUCKETS = 64;
+
+  private final LongAdder nodesVisited = new LongAdder();
+  private final LongAdder subtreesPruned = new LongAdder();
+  private final Map<Operation, OperationCounters> operations = new EnumMap<>(Operation.class);
+  private volatile boolean enabled = true;
+
+  public TreeMetrics() {
+    for (Operation operation : Operation.values()) {
+      operations.put(operation, new OperationCounters());
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public void nodeVisited() {
+    nodesVisited.increment();
+  }
+
+  public void subtreePruned() {
+    subtreesPruned.increment();
+  }
+
+  /**
+   * Records a call of the operation which took {@code nanos}.
+   */
+  public void record(Operation operation, long nanos) {
+    final OperationCounters counters = operations.get(operation);
+    counters.calls.increment();
+    counters.nanos.add(nanos);
+    counters.histogram[bucket(nanos)].increment();
+  }
+
+  private static int bucket(long nanos) {
+    return nanos <= 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+  }
+
+  public void reset() {
+    nodesVisited.reset();
+    subtreesPruned.reset();
+    for (OperationCounters counters : operations.values()) {
+      counters.calls.reset();
+      counters.nanos.reset();
+      for (LongAdder bucket : counters.histogram) {
+        bucket.reset();
+      }
+    }
+  }
+
+  /**
+   * Copy of the counters, not atomic with respect to calls recorded meanwhile.
+   */
+  public Snapshot snapshot() {
+    final Map<Operation, OperationSnapshot> result = new EnumMap<>(Operation.class);
+    for (Map.Entry<Operation, OperationCounters> entry : operations.entrySet()) {
+      final OperationCounters counters = entry.getValue();
+      final long[] histogram = new long[BUCKETS];
+      for (int i = 0; i < BUCKETS; ++i) {
+        histogram[i] = counters.histogram[i].sum();
+      }
+      result.put(entry.getKey(), new OperationSnapshot(counters.calls.sum(), counters.nanos.sum(), histogram));
+    }
+    return new Snapshot(nodesVisited.sum(), subtreesPruned.sum(), result);
+  }
+
+  /**
+   * Logs a snapshot at info level.
+   */
+  public void logTo(Logger logger) {
+    if (logger.isInfoEnabled()) {
+      logger.info("Tree metrics: {}", snapshot());
+    }
+  }
+
+  private static final class OperationCounters {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+    private OperationCounters() {
+      for (int i = 0; i < BUCKETS; ++i) {
+        histogram[i] = new LongAdder();
+      }
+    }
+  }
+
+  public static final class OperationSnapshot {
+
+    private final long calls;
+    private final long nanos;
+    private final long[] histogram;
+
+    private OperationSnapshot(long calls, long nanos, long[] histogram) {
+      this.calls = calls;
+      this.nanos = nanos;
+      this.histogram = histogram;
+    }
+
+    public long getCalls() {
+      return calls;
+    }
+
+    public long getTotalNanos() {
+      return nanos;
+    }
+
+    public long getAverageNanos() {
+      return calls == 0 ? 0 : nanos / calls;
+    }
+
+    public long[] getHistogram() {
+      return histogram.clone();
+    }
+
+    /**
+     * Upper bound of the histogram bucket containing the given percentile (0-100), 0 without calls.
+     */
+    public long getPercentileNanos(double percentile) {
+      if (percentile < 0 || percentile > 100) {
+        throw new IllegalArgumentException("Percentile must be in [0, 100]: " + percentile);
+      }
+      if (calls == 0) {
+        return 0;
+      }
+      final long rank = Math.max(1, (long) Math.ceil(calls * percentile / 100));
+      long count = 0;
+      for (int i = 0; i < BUCKETS; ++i) {
+        count += histogram[i];
+        if (count >= rank) {
+          return i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+        }
+      }
+      return Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+      return "calls=" + calls + ", avg=" + getAverageNanos() + "ns, p50<=" + getPercentileNanos(50) + "ns, p99<="
+          + getPercentileNanos(99) + "ns";
+    }
+  }
+
+  public static final class Snapshot {
+
+    private final long nodesVisited;
+    private final long subtreesPruned;
+    private final Map<Operation, OperationSnapshot> operations;
+
+    private Snapshot(long nodesVisited, long subtreesPruned, Map<Operation, OperationSnapshot> operations) {
+      this.nodesVisited = nodesVisited;
+      this.subtreesPruned = subtreesPruned;
+      this.operations = operations;
+    }
+
+    public long getNodesVisited() {
+      return nodesVisited;
+    }
+
+    public long getSubtreesPruned() {
+      return subtreesPruned;
+    }
+
+    public OperationSnapshot get(Operation operation) {
+      return operations.get(operation);
+    }
+
+    public long getCalls(Operation operation) {
+      return operations.get(operation).getCalls();
+    }
+
+    @Override
+    public String toString() {
+      final StringBuilder sb = new StringBuilder("{nodesVisited=").append(nodesVisited)
+          .append(", subtreesPruned=").append(subtreesPruned);
+      for (Map.Entry<Operation, OperationSnapshot> entry : operations.entrySet()) {
+        if (entry.getValue().getCalls() > 0) {
+          sb.append(", ").append(entry.getKey()).append(": [").append(entry.getValue()).append(']');
+        }
+      }
+      return sb.append('}').toString();
+    }
+  }
+}
@@ -1,8 +1,16 @@
 package org.blacksmith.commons.tree;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.blacksmith.commons.tree.traverser.PathWalker;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeSpliterator;
+import org.blacksmith.commons.tree.traverser.TreeIterators;
 
 /**
  * @formatter:off
@@ -49,6 +57,12 @@ public interface TreeNode<T> {
 
   TreeNode<T> addChildWith(T o);
 
+  /**
+   * Hint that {@code capacity} children are going to be added, implementations may presize the children list.
+   */
+  default void ensureChildrenCapacity(int capacity) {
+  }
+
   boolean isParentOf(TreeNode<T> n);
 
   TreeNode<T> removeDescendantWith(T o);
@@ -65,6 +79,10 @@ public interface TreeNode<T> {
 
   List<TreeNode<T>> findDescendantsWith(Predicate<T> p);
 
+  default List<TreeNode<T>> findDescendantsWith(Predicate<T> p, TreeTraverser traverser) {
+    return traverser.collect(this, node -> p.test(node.getData()));
+  }
+
   List<TreeNode<T>> findTopDescendantsWith(final T o);
 
   boolean contains(T o);
@@ -137,6 +155,67 @@ public interface TreeNode<T> {
     return result;
   }
 
+  /**
+   * Lazy pre-order stream, nodes are read as the stream is consumed, so short-circuiting operations stop the
+   * traversal.
+   */
+  default Stream<TreeNode<T>> stream() {
+    return StreamSupport.stream(new PreOrderTreeSpliterator<>(this), false);
+  }
+
+  /**
+   * Parallel pre-order stream, split at subtree boundaries.
+   */
+  default Stream<TreeNode<T>> parallelStream() {
+    return StreamSupport.stream(new PreOrderTreeSpliterator<>(this), true);
+  }
+
+  /**
+   * Stream in order of the given traverser. Traversers with a {@link TreeTraverser#getOrder() known order} are read
+   * lazily like {@link #stream(TraverseOrder)}, nodes of other traversers are collected first.
+   */
+  default Stream<TreeNode<T>> stream(TreeTraverser traverser) {
+    final TraverseOrder order = traverser.getOrder();
+    return order == null ? toList(traverser).stream() : stream(order);
+  }
+
+  /**
+   * Lazy stream in the given order.
+   */
+  default Stream<TreeNode<T>> stream(TraverseOrder order) {
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(iterator(order), Spliterator.ORDERED | Spliterator.NONNULL), false);
+  }
+
+  default Iterator<TreeNode<T>> iterator(TraverseOrder order) {
+    return TreeIterators.iterator(this, order);
+  }
+
+  /**
+   * @return {@code false} if the walk has been terminated by the visitor
+   */
+  default boolean walk(TraverseOrder order, ControlledNodeVisitor<T> visitor) {
+    return TreeIterators.walk(this, order, visitor);
+  }
+
+  /**
+   * Breadth-first iterator returning one level at a time, starting with this node.
+   */
+  default Iterator<List<TreeNode<T>>> levels() {
+    return TreeIterators.levels(this);
+  }
+
+  enum VisitResult {
+    CONTINUE,
+    SKIP_SUBTREE,
+    TERMINATE
+  }
+
+  interface ControlledNodeVisitor<T> {
+
+    VisitResult visit(TreeNode<T> node);
+  }
+
   interface NodeVisitor<T> {
 
     void visit(TreeNode<T> node);
@@ -150,10 +229,104 @@ public interface TreeNode<T> {
     }
   }
 
+  /**
+   * Visitor getting the depth of every node relative to the node the traversal started from (depth 0).
+   */
+  interface DepthNodeVisitor<T> {
+
+    void visit(TreeNode<T> node, int depth);
+
+    default boolean accept(TreeNode<T> node, int depth) {
+      return true;
+    }
+
+    default boolean acceptChildren(TreeNode<T> node, int depth) {
+      return true;
+    }
+  }
+
+  /**
+   * Depth-first visitor notified when a node is entered (before its descendants) and left (after them), so the path
+   * from the start node is the sequence of entered and not yet left nodes. Returning {@code false} from
+   * {@code enter} skips the descendants, {@code leave} is still called.
+   */
+  interface PathNodeVisitor<T> {
+
+    boolean enter(TreeNode<T> node, int depth);
+
+    default void leave(TreeNode<T> node, int depth) {
+    }
+  }
+
   interface TreeTraverser {
 
     <T> void traverse(TreeNode<T> node, NodeVisitor<T> visitor);
 
     <T> void fullTraverse(TreeNode<T> node, NodeVisitor<T> visitor);
+
+    /**
+     * Order in which {@link #traverse} visits nodes when {@link TreeIterators} has an iterator for it, otherwise
+     * {@code null}.
+     */
+    default TraverseOrder getOrder() {
+      return null;
+    }
+
+    /**
+     * Like {@link #traverse} with depth of every node. Traversers of this package track depth while traversing,
+     * the default implementation visits nodes in pre-order of {@link #walkPath}, which keeps depth on its own stack.
+     */
+    default <T> void traverseWithDepth(TreeNode<T> node, DepthNodeVisitor<T> visitor) {
+      walkPath(node, (TreeNode<T> n, int depth) -> {
+        if (!visitor.accept(n, depth)) {
+          return false;
+        }
+        visitor.visit(n, depth);
+        return visitor.acceptChildren(n, depth);
+      });
+    }
+
+    /**
+     * Like {@link #traverse}, but visits only nodes with depth in {@code [minDepth, maxDepth]} relative to the start
+     * node; subtrees below {@code maxDepth} are not traversed.
+     */
+    default <T> void traverse(TreeNode<T> node, NodeVisitor<T> visitor, int minDepth, int maxDepth) {
+      traverseWithDepth(node, new DepthNodeVisitor<T>() {
+        @Override
+        public void visit(TreeNode<T> n, int depth) {
+          if (depth >= minDepth) {
+            visitor.visit(n);
+          }
+        }
+
+        @Override
+        public boolean accept(TreeNode<T> n, int depth) {
+          return depth <= maxDepth && visitor.accept(n);
+        }
+
+        @Override
+        public boolean acceptChildren(TreeNode<T> n, int depth) {
+          return depth < maxDepth && visitor.acceptChildren(n);
+        }
+      });
+    }
+
+    /**
+     * Depth-first walk with enter/leave callbacks. Depth-first traversers walk in their own order, the default
+     * implementation (used e.g. by breadth-first and parallel traversers) walks children in list order.
+     */
+    default <T> void walkPath(TreeNode<T> node, PathNodeVisitor<T> visitor) {
+      PathWalker.walk(node, visitor, false);
+    }
+
+    default <T> List<TreeNode<T>> collect(TreeNode<T> node, Predicate<TreeNode<T>> filter) {
+      final List<TreeNode<T>> result = new ArrayList<>();
+      fullTraverse(node, (n) -> {
+        if (filter.test(n)) {
+          result.add(n);
+        }
+      });
+      return result;
+    }
   }
 }
@@ -0,0 +1,155 @@
+package org.blacksmith.commons.tree;
+
+/**
+ * Lowest common ancestor, distance and level ancestor queries over a {@link FrozenTree} snapshot.
+ * <p>
+ * LCA is a range minimum query over node depths in pre-order, answered in O(1) with a sparse table: for nodes
+ * {@code u < v} (pre-order indexes), none being an ancestor of the other, the shallowest node in {@code (u, v]} is a
+ * child of the LCA. Level ancestors are found by binary search in the pre-order sorted list of nodes at the requested
+ * depth, O(log n). Preprocessing takes O(n log n) time and memory.
+ */
+public final class TreeQueries<T> {
+
+  private final FrozenTree<T> tree;
+  private final int[][] minDepth;
+  private final int[] levelStart;
+  private final int[] levelNodes;
+
+  private TreeQueries(FrozenTree<T> tree) {
+    this.tree = tree;
+    final int size = tree.size();
+    final int levels = 32 - Integer.numberOfLeadingZeros(size);
+    this.minDepth = new int[levels][];
+    final int[] first = new int[size];
+    for (int i = 0; i < size; ++i) {
+      first[i] = i;
+    }
+    minDepth[0] = first;
+    for (int k = 1; k < levels; ++k) {
+      final int[] prev = minDepth[k - 1];
+      final int half = 1 << (k - 1);
+      final int[] current = new int[size - (1 << k) + 1];
+      for (int i = 0; i < current.length; ++i) {
+        current[i] = shallower(prev[i], prev[i + half]);
+      }
+      minDepth[k] = current;
+    }
+    int maxDepth = 0;
+    for (int i = 0; i < size; ++i) {
+      maxDepth = Math.max(maxDepth, tree.getDepth(i));
+    }
+    this.levelStart = new int[maxDepth + 2];
+    for (int i = 0; i < size; ++i) {
+      ++levelStart[tree.getDepth(i) + 1];
+    }
+    for (int d = 1; d < levelStart.length; ++d) {
+      levelStart[d] += levelStart[d - 1];
+    }
+    this.levelNodes = new int[size];
+    final int[] fill = new int[maxDepth + 1];
+    for (int i = 0; i < size; ++i) {
+      int d = tree.getDepth(i);
+      levelNodes[levelStart[d] + fill[d]++] = i;
+    }
+  }
+
+  public static <T> TreeQueries<T> of(TreeNode<T> root) {
+    return new TreeQueries<>(FrozenTree.of(root));
+  }
+
+  public static <T> TreeQueries<T> of(FrozenTree<T> tree) {
+    return new TreeQueries<>(tree);
+  }
+
+  public FrozenTree<T> getTree() {
+    return tree;
+  }
+
+  private int shallower(int a, int b) {
+    return tree.getDepth(b) < tree.getDepth(a) ? b : a;
+  }
+
+  /**
+   * Lowest common ancestor of two nodes given by their snapshot indexes.
+   */
+  public int lowestCommonAncestor(int u, int v) {
+    if (u == v) {
+      return u;
+    }
+    int from = Math.min(u, v);
+    int to = Math.max(u, v);
+    if (tree.isDescendantOf(to, from)) {
+      return from;
+    }
+    ++from;
+    final int k = 31 - Integer.numberOfLeadingZeros(to - from + 1);
+    return tree.getParent(shallower(minDepth[k][from], minDepth[k][to - (1 << k) + 1]));
+  }
+
+  /**
+   * Number of edges on the path between two nodes given by their snapshot indexes.
+   */
+  public int distance(int u, int v) {
+    return tree.getDepth(u) + tree.getDepth(v) - 2 * tree.getDepth(lowestCommonAncestor(u, v));
+  }
+
+  /**
+   * Ancestor of the node at the given depth (the node itself for its own depth), or {@link FrozenTree#NO_NODE} if
+   * the depth is out of range.
+   */
+  public int ancestorAtDepth(int index, int depth) {
+    if (depth < 0 || depth > tree.getDepth(index)) {
+      return FrozenTree.NO_NODE;
+    }
+    int low = levelStart[depth];
+    int high = levelStart[depth + 1] - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (levelNodes[mid] <= index) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return levelNodes[low];
+  }
+
+  /**
+   * The k-th ancestor of the node (the parent for {@code k == 1}), or {@link FrozenTree#NO_NODE}.
+   */
+  public int ancestor(int index, int k) {
+    return k < 0 ? FrozenTree.NO_NODE : ancestorAtDepth(index, tree.getDepth(index) - k);
+  }
+
+  public TreeNode<T> lowestCommonAncestor(TreeNode<T> u, TreeNode<T> v) {
+    return source(lowestCommonAncestor(indexOf(u), indexOf(v)));
+  }
+
+  public int distance(TreeNode<T> u, TreeNode<T> v) {
+    return distance(indexOf(u), indexOf(v));
+  }
+
+  public TreeNode<T> ancestorAtDepth(TreeNode<T> node, int depth) {
+    return source(ancestorAtDepth(indexOf(node), depth));
+  }
+
+  public TreeNode<T> ancestor(TreeNode<T> node, int k) {
+    return source(ancestor(indexOf(node), k));
+  }
+
+  public int getDepth(TreeNode<T> node) {
+    return tree.getDepth(indexOf(node));
+  }
+
+  private int indexOf(TreeNode<T> node) {
+    int index = tree.indexOf(node);
+    if (index == FrozenTree.NO_NODE) {
+      throw new IllegalArgumentException("Node doesn't belong to the tree");
+    }
+    return index;
+  }
+
+  private TreeNode<T> source(int index) {
+    return index == FrozenTree.NO_NODE ? null : tree.getSource(index);
+  }
+}
@@ -0,0 +1,231 @@
+package org.blacksmith.commons.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.blacksmith.commons.tree.TreeNode.PathNodeVisitor;
+import org.blacksmith.commons.tree.TreeNode.TreeTraverser;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser;
+
+/**
+ * Compiled path query, a sequence of steps matched from the node the query is run on (which itself is never matched).
+ * A {@code child} step matches children of the nodes matched by the previous step, a {@code descendant} step their
+ * descendants, optionally at most {@code maxDepth} levels below. Results are nodes matched by the last step, in
+ * pre-order, each node once.
+ * <p>
+ * The query runs as a single depth-first pass: every node on the current path keeps for each step how many levels
+ * below it the step may still match, subtrees where no step can match are not entered.
+ * <pre>
+ * TreeQuery.&lt;Integer&gt;builder().descendant(d -&gt; d == 3).child(d -&gt; d &gt; 5).build().find(root);
+ * TreeQuery.parse("//3/*", Integer::valueOf).find(root);
+ * </pre>
+ */
+public final class TreeQuery<T> {
+
+  public static final int UNLIMITED = Integer.MAX_VALUE;
+
+  private static final TreeTraverser TRAVERSER = new PreOrderTreeTraverser();
+
+  private final Predicate<TreeNode<T>>[] predicates;
+  private final int[] maxDepths;
+  private final String description;
+
+  private TreeQuery(Predicate<TreeNode<T>>[] predicates, int[] maxDepths, String description) {
+    this.predicates = predicates;
+    this.maxDepths = maxDepths;
+    this.description = description;
+  }
+
+  public static <T> Builder<T> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * Parses a query like {@code /a//b//{2}c/*}: {@code /} is a child step, {@code //} a descendant step,
+   * {@code //{n}} a descendant step at most {@code n} levels deep. A step matches nodes with data equal to the parsed
+   * name, {@code *} matches any node.
+   */
+  public static <T> TreeQuery<T> parse(String query, Function<String, T> dataParser) {
+    final Builder<T> builder = new Builder<>();
+    int pos = 0;
+    final int length = query.length();
+    if (length == 0) {
+      throw new IllegalArgumentException("Empty query");
+    }
+    while (pos < length) {
+      if (query.charAt(pos) != '/') {
+        throw new IllegalArgumentException("Expected '/' at " + pos + " in " + query);
+      }
+      ++pos;
+      int maxDepth = 1;
+      if (pos < length && query.charAt(pos) == '/') {
+        ++pos;
+        maxDepth = UNLIMITED;
+        if (pos < length && query.charAt(pos) == '{') {
+          final int close = query.indexOf('}', pos);
+          if (close < 0) {
+            throw new IllegalArgumentException("Unclosed '{' at " + pos + " in " + query);
+          }
+          maxDepth = parseDepth(query.substring(pos + 1, close), query);
+          pos = close + 1;
+        }
+      }
+      int end = query.indexOf('/', pos);
+      if (end < 0) {
+        end = length;
+      }
+      if (end == pos) {
+        throw new IllegalArgumentException("Missing step name at " + pos + " in " + query);
+      }
+      final String name = query.substring(pos, end);
+      final Predicate<T> predicate;
+      if (name.equals("*")) {
+        predicate = data -> true;
+      } else {
+        final T value = dataParser.apply(name);
+        predicate = data -> Objects.equals(value, data);
+      }
+      builder.step(node -> predicate.test(node.getData()), maxDepth, name);
+      pos = end;
+    }
+    return builder.build();
+  }
+
+  private static int parseDepth(String depth, String query) {
+    final int maxDepth;
+    try {
+      maxDepth = Integer.parseInt(depth);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid depth " + depth + " in " + query, e);
+    }
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("Max depth must be positive: " + maxDepth + " in " + query);
+    }
+    return maxDepth;
+  }
+
+  public List<TreeNode<T>> find(TreeNode<T> node) {
+    final List<TreeNode<T>> found = new ArrayList<>();
+    run(node, found, false);
+    return found;
+  }
+
+  /**
+   * The first match in pre-order or {@code null}, the walk stops entering nodes after the first match.
+   */
+  public TreeNode<T> findFirst(TreeNode<T> node) {
+    final List<TreeNode<T>> found = new ArrayList<>(1);
+    run(node, found, true);
+    return found.isEmpty() ? null : found.get(0);
+  }
+
+  private void run(TreeNode<T> node, List<TreeNode<T>> found, boolean first) {
+    final int steps = predicates.length;
+    TRAVERSER.walkPath(node, new PathNodeVisitor<T>() {
+      private int[][] open = new int[16][];
+
+      @Override
+      public boolean enter(TreeNode<T> n, int depth) {
+        if (depth == open.length) {
+          open = Arrays.copyOf(open, depth << 1);
+        }
+        if (open[depth] == null) {
+          open[depth] = new int[steps];
+        }
+        final int[] state = open[depth];
+        if (depth == 0) {
+          Arrays.fill(state, 0);
+          state[0] = maxDepths[0];
+          return true;
+        }
+        if (first && !found.isEmpty()) {
+          return false;
+        }
+        final int[] parent = open[depth - 1];
+        for (int i = 0; i < steps; ++i) {
+          state[i] = parent[i] > 0 ? parent[i] - 1 : 0;
+        }
+        for (int i = 0; i < steps; ++i) {
+          if (parent[i] > 0 && predicates[i].test(n)) {
+            if (i == steps - 1) {
+              found.add(n);
+            } else {
+              state[i + 1] = Math.max(state[i + 1], maxDepths[i + 1]);
+            }
+          }
+        }
+        for (int i = 0; i < steps; ++i) {
+          if (state[i] > 0) {
+            return true;
+          }
+        }
+        return false;
+      }
+    });
+  }
+
+  @Override
+  public String toString() {
+    return description;
+  }
+
+  public static final class Builder<T> {
+
+    private final List<Predicate<TreeNode<T>>> predicates = new ArrayList<>();
+    private final List<Integer> maxDepths = new ArrayList<>();
+    private final StringBuilder description = new StringBuilder();
+
+    private Builder() {
+    }
+
+    public Builder<T> child(Predicate<T> predicate) {
+      return step(node -> predicate.test(node.getData()), 1, "?");
+    }
+
+    public Builder<T> descendant(Predicate<T> predicate) {
+      return descendant(predicate, UNLIMITED);
+    }
+
+    public Builder<T> descendant(Predicate<T> predicate, int maxDepth) {
+      if (maxDepth < 1) {
+        throw new IllegalArgumentException("Max depth must be positive: " + maxDepth);
+      }
+      return step(node -> predicate.test(node.getData()), maxDepth, "?");
+    }
+
+    /**
+     * Adds a condition on the node (e.g. {@link TreeNode#isLeaf()}) to the last step.
+     */
+    public Builder<T> where(Predicate<TreeNode<T>> predicate) {
+      final int last = predicates.size() - 1;
+      if (last < 0) {
+        throw new IllegalStateException("No step to add condition to");
+      }
+      predicates.set(last, predicates.get(last).and(predicate));
+      description.append("[?]");
+      return this;
+    }
+
+    private Builder<T> step(Predicate<TreeNode<T>> predicate, int maxDepth, String name) {
+      predicates.add(predicate);
+      maxDepths.add(maxDepth);
+      description.append(maxDepth == 1 ? "/" : maxDepth == UNLIMITED ? "//" : "//{" + maxDepth + "}").append(name);
+      return this;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TreeQuery<T> build() {
+      if (predicates.isEmpty()) {
+        throw new IllegalStateException("Query without steps");
+      }
+      final int[] depths = new int[maxDepths.size()];
+      for (int i = 0; i < depths.length; ++i) {
+        depths[i] = maxDepths.get(i);
+      }
+      return new TreeQuery<>(predicates.toArray(new Predicate[0]), depths, description.toString());
+    }
+  }
+}
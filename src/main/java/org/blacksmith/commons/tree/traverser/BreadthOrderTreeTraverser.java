@@ -3,11 +3,18 @@ package org.blacksmith.commons.tree.traverser;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.List;
+import org.blacksmith.commons.tree.TraverseOrder;
 import org.blacksmith.commons.tree.TreeNode;
+import org.blacksmith.commons.tree.TreeNode.DepthNodeVisitor;
 import org.blacksmith.commons.tree.TreeNode.NodeVisitor;
 
 public final class BreadthOrderTreeTraverser implements TreeNode.TreeTraverser {
 
+  @Override
+  public TraverseOrder getOrder() {
+    return TraverseOrder.BREADTH;
+  }
+
   @Override
   public <T> void traverse(TreeNode<T> node, NodeVisitor<T> visitor) {
     final Deque<TreeNode<T>> dq = new ArrayDeque<>();
@@ -40,4 +47,32 @@ public final class BreadthOrderTreeTraverser implements TreeNode.TreeTraverser {
       dq.addAll(n.getChildren());
     }
   }
+
+  @Override
+  public <T> void traverseWithDepth(TreeNode<T> node, DepthNodeVisitor<T> visitor) {
+    final Deque<TreeNode<T>> dq = new ArrayDeque<>();
+    if (!visitor.accept(node, 0)) {
+      return;
+    }
+    dq.add(node);
+    int depth = 0;
+    int levelRemaining = 1;
+    TreeNode<T> n;
+    while ((n = dq.pollFirst()) != null) {
+      visitor.visit(n, depth);
+      final List<TreeNode<T>> children = n.getChildren();
+      if (!children.isEmpty() && visitor.acceptChildren(n, depth)) {
+        for (int i = 0; i < children.size(); ++i) {
+          TreeNode<T> child = children.get(i);
+          if (visitor.accept(child, depth + 1)) {
+            dq.add(child);
+          }
+        }
+      }
+      if (--levelRemaining == 0) {
+        ++depth;
+        levelRemaining = dq.size();
+      }
+    }
+  }
 }
@@ -0,0 +1,134 @@
+package org.blacksmith.commons.tree.traverser;
+
+import java.util.Arrays;
+import java.util.List;
+import org.blacksmith.commons.tree.TraverseOrder;
+import org.blacksmith.commons.tree.TreeNode;
+import org.blacksmith.commons.tree.TreeNode.DepthNodeVisitor;
+import org.blacksmith.commons.tree.TreeNode.NodeVisitor;
+import org.blacksmith.commons.tree.TreeNode.TreeTraverser;
+
+/**
+ * Post-order traverser walking the tree once with a stack of (node, next child) frames, so memory is O(depth) instead
+ * of O(n) of {@link PostOrderTreeTraverser}. Frames are kept in a {@link FrameStack} which is reused between calls:
+ * a thread-local one by default, or one supplied by the caller. A nested traversal started from a visitor gets a new
+ * stack.
+ */
+public final class IterativePostOrderTreeTraverser implements TreeTraverser {
+
+  private static final ThreadLocal<FrameStack> STACK = ThreadLocal.withInitial(FrameStack::new);
+
+  @Override
+  public TraverseOrder getOrder() {
+    return TraverseOrder.POST;
+  }
+
+  @Override
+  public <T> void traverse(TreeNode<T> node, NodeVisitor<T> visitor) {
+    traverse(node, visitor, STACK.get());
+  }
+
+  @Override
+  public <T> void fullTraverse(TreeNode<T> node, NodeVisitor<T> visitor) {
+    fullTraverse(node, visitor, STACK.get());
+  }
+
+  @Override
+  public <T> void traverseWithDepth(TreeNode<T> node, DepthNodeVisitor<T> visitor) {
+    traverseWithDepth(node, visitor, STACK.get());
+  }
+
+  public <T> void traverse(TreeNode<T> node, NodeVisitor<T> visitor, FrameStack stack) {
+    traverseWithDepth(node, new DepthNodeVisitor<>() {
+      @Override
+      public void visit(TreeNode<T> n, int depth) {
+        visitor.visit(n);
+      }
+
+      @Override
+      public boolean accept(TreeNode<T> n, int depth) {
+        return visitor.accept(n);
+      }
+
+      @Override
+      public boolean acceptChildren(TreeNode<T> n, int depth) {
+        return visitor.acceptChildren(n);
+      }
+    }, stack);
+  }
+
+  public <T> void fullTraverse(TreeNode<T> node, NodeVisitor<T> visitor, FrameStack stack) {
+    run(node, (n, depth) -> visitor.visit(n), false, stack);
+  }
+
+  public <T> void traverseWithDepth(TreeNode<T> node, DepthNodeVisitor<T> visitor, FrameStack stack) {
+    if (visitor.accept(node, 0)) {
+      run(node, visitor, true, stack);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> void run(TreeNode<T> node, DepthNodeVisitor<T> visitor, boolean pruning, FrameStack stack) {
+    final FrameStack frames = stack.inUse ? new FrameStack() : stack;
+    frames.inUse = true;
+    try {
+      frames.push(node, visitor, pruning);
+      while (frames.depth > 0) {
+        final int top = frames.depth - 1;
+        final List<TreeNode<T>> children = (List<TreeNode<T>>) frames.children[top];
+        final int next = frames.next[top];
+        if (children != null && next < children.size()) {
+          frames.next[top] = next + 1;
+          final TreeNode<T> child = children.get(next);
+          if (!pruning || visitor.accept(child, top + 1)) {
+            frames.push(child, visitor, pruning);
+          }
+        } else {
+          final TreeNode<T> n = (TreeNode<T>) frames.nodes[top];
+          frames.nodes[top] = null;
+          frames.children[top] = null;
+          frames.depth = top;
+          visitor.visit(n, top);
+        }
+      }
+    } finally {
+      frames.clear();
+      frames.inUse = false;
+    }
+  }
+
+  /**
+   * Reusable traversal stack. A stack must not be used by two traversals at the same time.
+   */
+  public static final class FrameStack {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private TreeNode<?>[] nodes = new TreeNode<?>[INITIAL_CAPACITY];
+    private List<?>[] children = new List<?>[INITIAL_CAPACITY];
+    private int[] next = new int[INITIAL_CAPACITY];
+    private int depth;
+    private boolean inUse;
+
+    private <T> void push(TreeNode<T> node, DepthNodeVisitor<T> visitor, boolean pruning) {
+      if (depth == nodes.length) {
+        int capacity = depth << 1;
+        nodes = Arrays.copyOf(nodes, capacity);
+        children = Arrays.copyOf(children, capacity);
+        next = Arrays.copyOf(next, capacity);
+      }
+      final List<TreeNode<T>> nodeChildren = node.getChildren();
+      nodes[depth] = node;
+      final boolean expand = !nodeChildren.isEmpty() && (!pruning || visitor.acceptChildren(node, depth));
+      children[depth] = expand ? nodeChildren : null;
+      next[depth] = 0;
+      ++depth;
+    }
+
+    private void clear() {
+      Arrays.fill(nodes, 0, depth, null);
+      Arrays.fill(children, 0, depth, null);
+      depth = 0;
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package org.blacksmith.commons.tree.traverser;
+
+import org.blacksmith.commons.tree.TreeMetrics;
+import org.blacksmith.commons.tree.TreeMetrics.Operation;
+import org.blacksmith.commons.tree.TreeNode;
+import org.blacksmith.commons.tree.TreeNode.DepthNodeVisitor;
+import org.blacksmith.commons.tree.TreeNode.NodeVisitor;
+import org.blacksmith.commons.tree.TreeNode.PathNodeVisitor;
+import org.blacksmith.commons.tree.TreeNode.TreeTraverser;
+
+/**
+ * Traverser counting visited nodes, pruned subtrees and {@link Operation#TRAVERSE} durations of the wrapped
+ * traverser in {@link TreeMetrics}. A subtree is counted as pruned when a node with children is refused by
+ * {@code acceptChildren} or {@code enter}. While metrics are disabled calls go to the wrapped traverser unchanged.
+ */
+public final class MeteredTreeTraverser implements TreeTraverser {
+
+  private final TreeTraverser delegate;
+  private final TreeMetrics metrics;
+
+  public MeteredTreeTraverser(TreeTraverser delegate, TreeMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  public TreeTraverser getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public <T> void traverse(TreeNode<T> node, NodeVisitor<T> visitor) {
+    if (!metrics.isEnabled()) {
+      delegate.traverse(node, visitor);
+      return;
+    }
+    final long start = System.nanoTime();
+    delegate.traverse(node, new NodeVisitor<T>() {
+      @Override
+      public void visit(TreeNode<T> n) {
+        metrics.nodeVisited();
+        visitor.visit(n);
+      }
+
+      @Override
+      public boolean accept(TreeNode<T> n) {
+        return visitor.accept(n);
+      }
+
+      @Override
+      public boolean acceptChildren(TreeNode<T> n) {
+        return countPruned(n, visitor.acceptChildren(n));
+      }
+    });
+    metrics.record(Operation.TRAVERSE, System.nanoTime() - start);
+  }
+
+  @Override
+  public <T> void fullTraverse(TreeNode<T> node, NodeVisitor<T> visitor) {
+    if (!metrics.isEnabled()) {
+      delegate.fullTraverse(node, visitor);
+      return;
+    }
+    final long start = System.nanoTime();
+    delegate.fullTraverse(node, n -> {
+      metrics.nodeVisited();
+      visitor.visit(n);
+    });
+    metrics.record(Operation.TRAVERSE, System.nanoTime() - start);
+  }
+
+  @Override
+  public <T> void traverseWithDepth(TreeNode<T> node, DepthNodeVisitor<T> visitor) {
+    if (!metrics.isEnabled()) {
+      delegate.traverseWithDepth(node, visitor);
+      return;
+    }
+    final long start = System.nanoTime();
+    delegate.traverseWithDepth(node, new DepthNodeVisitor<T>() {
+      @Override
+      public void visit(TreeNode<T> n, int depth) {
+        metrics.nodeVisited();
+        visitor.visit(n, depth);
+      }
+
+      @Override
+      public boolean accept(TreeNode<T> n, int depth) {
+        return visitor.accept(n, depth);
+      }
+
+      @Override
+      public boolean acceptChildren(TreeNode<T> n, int depth) {
+        return countPruned(n, visitor.acceptChildren(n, depth));
+      }
+    });
+    metrics.record(Operation.TRAVERSE, System.nanoTime() - start);
+  }
+
+  @Override
+  public <T> void walkPath(TreeNode<T> node, PathNodeVisitor<T> visitor) {
+    if (!metrics.isEnabled()) {
+      delegate.walkPath(node, visitor);
+      return;
+    }
+    final long start = System.nanoTime();
+    delegate.walkPath(node, new PathNodeVisitor<T>() {
+      @Override
+      public boolean enter(TreeNode<T> n, int depth) {
+        metrics.nodeVisited();
+        return countPruned(n, visitor.enter(n, depth));
+      }
+
+      @Override
+      public void leave(TreeNode<T> n, int depth) {
+        visitor.leave(n, depth);
+      }
+    });
+    metrics.record(Operation.TRAVERSE, System.nanoTime() - start);
+  }
+
+  private <T> boolean countPruned(TreeNode<T> node, boolean accepted) {
+    if (!accepted && node.hasChildren()) {
+      metrics.subtreePruned();
+    }
+    return accepted;
+  }
+}
@@ -0,0 +1,218 @@
+package org.blacksmith.commons.tree.traverser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import org.blacksmith.commons.tree.TreeNode;
+import org.blacksmith.commons.tree.TreeNode.DepthNodeVisitor;
+import org.blacksmith.commons.tree.TreeNode.NodeVisitor;
+
+/**
+ * Pre-order traverser splitting the walk into fork/join tasks of about {@code threshold} nodes.
+ * <p>
+ * In ordered mode nodes are collected in parallel and {@link NodeVisitor#visit} is called afterwards from the calling
+ * thread in pre-order, so any visitor can be used (e.g. {@link TreeNode#toList(TreeNode.TreeTraverser)}). In
+ * unordered mode {@code visit} is called from worker threads in no particular order, so the visitor has to be
+ * thread-safe. In both modes {@link NodeVisitor#accept} and {@link NodeVisitor#acceptChildren} are called from
+ * worker threads.
+ * <p>
+ * Subtrees are not measured up front: a task hands half of its pending subtrees to a new task each time it has
+ * visited {@code threshold} nodes, so deep and unbalanced trees are split without recursion.
+ * {@link #traverseWithDepth} works the same way, {@link #walkPath} is the sequential default.
+ */
+public final class ParallelTreeTraverser implements TreeNode.TreeTraverser {
+
+  public static final int DEFAULT_THRESHOLD = 10_000;
+
+  private final ForkJoinPool pool;
+  private final int threshold;
+  private final boolean ordered;
+
+  public ParallelTreeTraverser() {
+    this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD, true);
+  }
+
+  public ParallelTreeTraverser(int threshold, boolean ordered) {
+    this(ForkJoinPool.commonPool(), threshold, ordered);
+  }
+
+  public ParallelTreeTraverser(ForkJoinPool pool, int threshold, boolean ordered) {
+    this.pool = pool;
+    this.threshold = Math.max(threshold, 1);
+    this.ordered = ordered;
+  }
+
+  @Override
+  public <T> void traverse(TreeNode<T> node, NodeVisitor<T> visitor) {
+    run(node, adapt(visitor), true);
+  }
+
+  @Override
+  public <T> void fullTraverse(TreeNode<T> node, NodeVisitor<T> visitor) {
+    run(node, adapt(visitor), false);
+  }
+
+  @Override
+  public <T> void traverseWithDepth(TreeNode<T> node, DepthNodeVisitor<T> visitor) {
+    run(node, visitor, true);
+  }
+
+  /**
+   * Tests the filter in parallel, result is always in pre-order.
+   */
+  @Override
+  public <T> List<TreeNode<T>> collect(TreeNode<T> node, Predicate<TreeNode<T>> filter) {
+    return pool.invoke(new TraverseTask<>(node, null, false, filter, true)).nodes;
+  }
+
+  private <T> void run(TreeNode<T> node, DepthNodeVisitor<T> visitor, boolean pruning) {
+    if (ordered) {
+      final Visits<T> visits = pool.invoke(new TraverseTask<>(node, visitor, pruning, null, true));
+      for (int i = 0; i < visits.nodes.size(); ++i) {
+        visitor.visit(visits.nodes.get(i), visits.depths[i]);
+      }
+    } else {
+      pool.invoke(new TraverseTask<>(node, visitor, pruning, null, false));
+    }
+  }
+
+  private static <T> DepthNodeVisitor<T> adapt(NodeVisitor<T> visitor) {
+    return new DepthNodeVisitor<>() {
+      @Override
+      public void visit(TreeNode<T> node, int depth) {
+        visitor.visit(node);
+      }
+
+      @Override
+      public boolean accept(TreeNode<T> node, int depth) {
+        return visitor.accept(node);
+      }
+
+      @Override
+      public boolean acceptChildren(TreeNode<T> node, int depth) {
+        return visitor.acceptChildren(node);
+      }
+    };
+  }
+
+  /**
+   * Nodes collected in pre-order with their depths.
+   */
+  private static final class Visits<T> {
+
+    private final List<TreeNode<T>> nodes = new ArrayList<>();
+    private int[] depths = new int[16];
+
+    private void add(TreeNode<T> node, int depth) {
+      if (nodes.size() == depths.length) {
+        depths = Arrays.copyOf(depths, depths.length << 1);
+      }
+      depths[nodes.size()] = depth;
+      nodes.add(node);
+    }
+
+    private void addAll(Visits<T> other) {
+      if (nodes.size() + other.nodes.size() > depths.length) {
+        depths = Arrays.copyOf(depths, Math.max(depths.length << 1, nodes.size() + other.nodes.size()));
+      }
+      System.arraycopy(other.depths, 0, depths, nodes.size(), other.nodes.size());
+      nodes.addAll(other.nodes);
+    }
+  }
+
+  /**
+   * Walks pending subtrees in pre-order. After {@code threshold} visited nodes the bottom half of the pending stack,
+   * which is the end of the remaining pre-order, is forked as a new task; results of forked tasks are appended in
+   * reverse order of forking.
+   */
+  private final class TraverseTask<T> extends RecursiveTask<Visits<T>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<TreeNode<T>> pending;
+    private int[] depths;
+    private final DepthNodeVisitor<T> visitor;
+    private final boolean pruning;
+    private final Predicate<TreeNode<T>> filter;
+    private final boolean collecting;
+
+    private TraverseTask(TreeNode<T> node, DepthNodeVisitor<T> visitor, boolean pruning,
+        Predicate<TreeNode<T>> filter, boolean collecting) {
+      this(new ArrayList<>(List.of(node)), new int[16], visitor, pruning, filter, collecting);
+    }
+
+    private TraverseTask(List<TreeNode<T>> pending, int[] depths, DepthNodeVisitor<T> visitor, boolean pruning,
+        Predicate<TreeNode<T>> filter, boolean collecting) {
+      this.pending = pending;
+      this.depths = depths;
+      this.visitor = visitor;
+      this.pruning = pruning;
+      this.filter = filter;
+      this.collecting = collecting;
+    }
+
+    @Override
+    protected Visits<T> compute() {
+      final Visits<T> result = new Visits<>();
+      final List<TraverseTask<T>> forked = new ArrayList<>();
+      int budget = threshold;
+      while (!pending.isEmpty()) {
+        if (budget == 0) {
+          budget = threshold;
+          if (pending.size() > 1) {
+            final TraverseTask<T> task = split();
+            task.fork();
+            forked.add(task);
+          }
+        }
+        final int top = pending.size() - 1;
+        final TreeNode<T> n = pending.remove(top);
+        final int d = depths[top];
+        if (pruning && !visitor.accept(n, d)) {
+          continue;
+        }
+        handle(n, d, result);
+        --budget;
+        final List<TreeNode<T>> children = n.getChildren();
+        if (!children.isEmpty() && (!pruning || visitor.acceptChildren(n, d))) {
+          if (pending.size() + children.size() > depths.length) {
+            depths = Arrays.copyOf(depths, Math.max(depths.length << 1, pending.size() + children.size()));
+          }
+          for (int i = children.size() - 1; i >= 0; --i) {
+            depths[pending.size()] = d + 1;
+            pending.add(children.get(i));
+          }
+        }
+      }
+      for (int i = forked.size() - 1; i >= 0; --i) {
+        final Visits<T> visits = forked.get(i).join();
+        if (collecting) {
+          result.addAll(visits);
+        }
+      }
+      return result;
+    }
+
+    private TraverseTask<T> split() {
+      final int half = pending.size() >>> 1;
+      final List<TreeNode<T>> bottom = new ArrayList<>(pending.subList(0, half));
+      final int[] bottomDepths = Arrays.copyOf(depths, Math.max(half, 16));
+      pending.subList(0, half).clear();
+      System.arraycopy(depths, half, depths, 0, pending.size());
+      return new TraverseTask<>(bottom, bottomDepths, visitor, pruning, filter, collecting);
+    }
+
+    private void handle(TreeNode<T> n, int d, Visits<T> result) {
+      if (filter == null || filter.test(n)) {
+        if (collecting) {
+          result.add(n, d);
+        } else {
+          visitor.visit(n, d);
+        }
+      }
+    }
+  }
+}
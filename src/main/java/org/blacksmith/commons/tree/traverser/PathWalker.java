@@ -0,0 +1,48 @@
+package org.blacksmith.commons.tree.traverser;
+
+import java.util.Arrays;
+import java.util.List;
+import org.blacksmith.commons.tree.TreeNode;
+import org.blacksmith.commons.tree.TreeNode.PathNodeVisitor;
+
+/**
+ * Iterative depth-first walk with enter/leave callbacks, used by the default
+ * {@link org.blacksmith.commons.tree.TreeNode.TreeTraverser#walkPath} and, with children in reverse order, by
+ * {@link RevOrderTreeTraverser}.
+ */
+public final class PathWalker {
+
+  private PathWalker() {
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static <T> void walk(TreeNode<T> node, PathNodeVisitor<T> visitor, boolean reversed) {
+    TreeNode<T>[] nodes = new TreeNode[16];
+    List<TreeNode<T>>[] children = new List[16];
+    int[] next = new int[16];
+    int depth = 0;
+    nodes[0] = node;
+    children[0] = visitor.enter(node, 0) ? node.getChildren() : List.of();
+    next[0] = 0;
+    while (depth >= 0) {
+      final List<TreeNode<T>> current = children[depth];
+      if (next[depth] < current.size()) {
+        int i = next[depth]++;
+        final TreeNode<T> child = current.get(reversed ? current.size() - 1 - i : i);
+        if (++depth == nodes.length) {
+          nodes = Arrays.copyOf(nodes, depth << 1);
+          children = Arrays.copyOf(children, depth << 1);
+          next = Arrays.copyOf(next, depth << 1);
+        }
+        nodes[depth] = child;
+        children[depth] = visitor.enter(child, depth) ? child.getChildren() : List.of();
+        next[depth] = 0;
+      } else {
+        visitor.leave(nodes[depth], depth);
+        nodes[depth] = null;
+        children[depth] = null;
+        --depth;
+      }
+    }
+  }
+}
@@ -1,14 +1,22 @@
 package org.blacksmith.commons.tree.traverser;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
+import org.blacksmith.commons.tree.TraverseOrder;
 import org.blacksmith.commons.tree.TreeNode;
+import org.blacksmith.commons.tree.TreeNode.DepthNodeVisitor;
 import org.blacksmith.commons.tree.TreeNode.NodeVisitor;
 import org.blacksmith.commons.tree.TreeNode.TreeTraverser;
 
 public final class PostOrderTreeTraverser implements TreeTraverser {
 
+  @Override
+  public TraverseOrder getOrder() {
+    return TraverseOrder.POST;
+  }
+
   @Override
   public <T> void traverse(TreeNode<T> node, NodeVisitor<T> visitor) {
     final Deque<TreeNode<T>> dq = new ArrayDeque<>();
@@ -44,11 +52,52 @@ public final class PostOrderTreeTraverser implements TreeTraverser {
     TreeNode<T> n;
     while ((node = dq.pollLast()) != null) {
       dq2.add(node);
-      dq.addAll(node.getChildren());
+      final List<TreeNode<T>> children = node.getChildren();
+      for (int i = 0; i < children.size(); ++i) {
+        dq.add(children.get(i));
+      }
     }
 
     while ((n = dq2.pollLast()) != null) {
       visitor.visit(n);
     }
   }
+
+  @Override
+  public <T> void traverseWithDepth(TreeNode<T> node, DepthNodeVisitor<T> visitor) {
+    final Deque<TreeNode<T>> dq = new ArrayDeque<>();
+    final Deque<TreeNode<T>> dq2 = new ArrayDeque<>();
+    if (!visitor.accept(node, 0)) {
+      return;
+    }
+    int[] depths = new int[16];
+    int[] depths2 = new int[16];
+    dq.add(node);
+    TreeNode<T> n;
+    while ((n = dq.pollLast()) != null) {
+      final int depth = depths[dq.size()];
+      if (dq2.size() == depths2.length) {
+        depths2 = Arrays.copyOf(depths2, depths2.length << 1);
+      }
+      depths2[dq2.size()] = depth;
+      dq2.add(n);
+      final List<TreeNode<T>> children = n.getChildren();
+      if (!children.isEmpty() && visitor.acceptChildren(n, depth)) {
+        for (int i = 0; i < children.size(); ++i) {
+          TreeNode<T> child = children.get(i);
+          if (visitor.accept(child, depth + 1)) {
+            if (dq.size() == depths.length) {
+              depths = Arrays.copyOf(depths, depths.length << 1);
+            }
+            depths[dq.size()] = depth + 1;
+            dq.add(child);
+          }
+        }
+      }
+    }
+
+    while ((n = dq2.pollLast()) != null) {
+      visitor.visit(n, depths2[dq2.size()]);
+    }
+  }
 }
@@ -0,0 +1,104 @@
+package org.blacksmith.commons.tree.traverser;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.blacksmith.commons.tree.TreeNode;
+
+/**
+ * Lazy pre-order spliterator. Children are read only when their parent is consumed, and {@link #trySplit()} hands
+ * over whole subtrees, so splitting never copies nodes. Size is unknown, estimate is halved on every split.
+ */
+public final class PreOrderTreeSpliterator<T> implements Spliterator<TreeNode<T>> {
+
+  private TreeNode<T> head;
+  private final Deque<TreeNode<T>> pending;
+  private long estimate;
+
+  public PreOrderTreeSpliterator(TreeNode<T> node) {
+    this(null, new ArrayDeque<>(), Long.MAX_VALUE);
+    this.pending.add(node);
+  }
+
+  private PreOrderTreeSpliterator(TreeNode<T> head, Deque<TreeNode<T>> pending, long estimate) {
+    this.head = head;
+    this.pending = pending;
+    this.estimate = estimate;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super TreeNode<T>> action) {
+    TreeNode<T> n = head;
+    if (n != null) {
+      head = null;
+    } else {
+      n = pending.pollFirst();
+      if (n == null) {
+        return false;
+      }
+      pushChildren(n);
+    }
+    action.accept(n);
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super TreeNode<T>> action) {
+    if (head != null) {
+      action.accept(head);
+      head = null;
+    }
+    TreeNode<T> n;
+    while ((n = pending.pollFirst()) != null) {
+      pushChildren(n);
+      action.accept(n);
+    }
+  }
+
+  private void pushChildren(TreeNode<T> n) {
+    final List<TreeNode<T>> children = n.getChildren();
+    for (int i = children.size() - 1; i >= 0; --i) {
+      pending.addFirst(children.get(i));
+    }
+  }
+
+  /**
+   * Splits off a prefix made of whole pending subtrees. A single pending subtree is expanded first, its root becomes
+   * the head of the prefix.
+   */
+  @Override
+  public Spliterator<TreeNode<T>> trySplit() {
+    if (head == null && pending.size() == 1) {
+      TreeNode<T> n = pending.peekFirst();
+      if (!n.hasChildren()) {
+        return null;
+      }
+      head = pending.pollFirst();
+      pushChildren(head);
+    }
+    if (pending.isEmpty() || (head == null && pending.size() < 2)) {
+      return null;
+    }
+    int toMove = pending.size() / 2;
+    final Deque<TreeNode<T>> prefix = new ArrayDeque<>(Math.max(toMove, 1));
+    for (int i = 0; i < toMove; ++i) {
+      prefix.add(pending.pollFirst());
+    }
+    estimate >>>= 1;
+    PreOrderTreeSpliterator<T> split = new PreOrderTreeSpliterator<>(head, prefix, estimate);
+    head = null;
+    return split;
+  }
+
+  @Override
+  public long estimateSize() {
+    return estimate;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | NONNULL;
+  }
+}
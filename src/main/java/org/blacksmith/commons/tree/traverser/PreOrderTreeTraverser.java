@@ -1,13 +1,21 @@
 package org.blacksmith.commons.tree.traverser;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
+import org.blacksmith.commons.tree.TraverseOrder;
 import org.blacksmith.commons.tree.TreeNode;
+import org.blacksmith.commons.tree.TreeNode.DepthNodeVisitor;
 import org.blacksmith.commons.tree.TreeNode.NodeVisitor;
 
 public final class PreOrderTreeTraverser implements TreeNode.TreeTraverser {
 
+  @Override
+  public TraverseOrder getOrder() {
+    return TraverseOrder.PRE;
+  }
+
   @Override
   public <T> void traverse(TreeNode<T> node, NodeVisitor<T> visitor) {
     final Deque<TreeNode<T>> dq = new ArrayDeque<>();
@@ -46,4 +54,32 @@ public final class PreOrderTreeTraverser implements TreeNode.TreeTraverser {
       }
     }
   }
+
+  @Override
+  public <T> void traverseWithDepth(TreeNode<T> node, DepthNodeVisitor<T> visitor) {
+    final Deque<TreeNode<T>> dq = new ArrayDeque<>();
+    if (!visitor.accept(node, 0)) {
+      return;
+    }
+    int[] depths = new int[16];
+    dq.add(node);
+    TreeNode<T> n;
+    while ((n = dq.pollLast()) != null) {
+      final int depth = depths[dq.size()];
+      visitor.visit(n, depth);
+      final List<TreeNode<T>> children = n.getChildren();
+      if (!children.isEmpty() && visitor.acceptChildren(n, depth)) {
+        for (int i = children.size() - 1; i >= 0; --i) {
+          TreeNode<T> child = children.get(i);
+          if (visitor.accept(child, depth + 1)) {
+            if (dq.size() == depths.length) {
+              depths = Arrays.copyOf(depths, depths.length << 1);
+            }
+            depths[dq.size()] = depth + 1;
+            dq.add(child);
+          }
+        }
+      }
+    }
+  }
 }
@@ -1,11 +1,19 @@
 package org.blacksmith.commons.tree.traverser;
 
 import java.util.List;
+import org.blacksmith.commons.tree.TraverseOrder;
 import org.blacksmith.commons.tree.TreeNode;
+import org.blacksmith.commons.tree.TreeNode.DepthNodeVisitor;
 import org.blacksmith.commons.tree.TreeNode.NodeVisitor;
+import org.blacksmith.commons.tree.TreeNode.PathNodeVisitor;
 
 public final class PreOrderTreeTraverser2 implements TreeNode.TreeTraverser {
 
+  @Override
+  public TraverseOrder getOrder() {
+    return TraverseOrder.PRE;
+  }
+
   @Override
   public <T> void traverse(TreeNode<T> node, NodeVisitor<T> visitor) {
     if (!visitor.accept(node)) {
@@ -30,4 +38,37 @@ public final class PreOrderTreeTraverser2 implements TreeNode.TreeTraverser {
       }
     }
   }
+
+  @Override
+  public <T> void traverseWithDepth(TreeNode<T> node, DepthNodeVisitor<T> visitor) {
+    traverseWithDepth(node, visitor, 0);
+  }
+
+  private <T> void traverseWithDepth(TreeNode<T> node, DepthNodeVisitor<T> visitor, int depth) {
+    if (!visitor.accept(node, depth)) {
+      return;
+    }
+    visitor.visit(node, depth);
+    final List<TreeNode<T>> children = node.getChildren();
+    if (!children.isEmpty() && visitor.acceptChildren(node, depth)) {
+      for (int i = 0; i < children.size(); i++) {
+        traverseWithDepth(children.get(i), visitor, depth + 1);
+      }
+    }
+  }
+
+  @Override
+  public <T> void walkPath(TreeNode<T> node, PathNodeVisitor<T> visitor) {
+    walkPath(node, visitor, 0);
+  }
+
+  private <T> void walkPath(TreeNode<T> node, PathNodeVisitor<T> visitor, int depth) {
+    if (visitor.enter(node, depth)) {
+      final List<TreeNode<T>> children = node.getChildren();
+      for (int i = 0; i < children.size(); i++) {
+        walkPath(children.get(i), visitor, depth + 1);
+      }
+    }
+    visitor.leave(node, depth);
+  }
 }
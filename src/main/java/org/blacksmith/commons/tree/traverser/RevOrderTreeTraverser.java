@@ -1,11 +1,19 @@
 package org.blacksmith.commons.tree.traverser;
 
 import java.util.List;
+import org.blacksmith.commons.tree.TraverseOrder;
 import org.blacksmith.commons.tree.TreeNode;
+import org.blacksmith.commons.tree.TreeNode.DepthNodeVisitor;
 import org.blacksmith.commons.tree.TreeNode.NodeVisitor;
+import org.blacksmith.commons.tree.TreeNode.PathNodeVisitor;
 
 public class RevOrderTreeTraverser implements TreeNode.TreeTraverser {
 
+  @Override
+  public TraverseOrder getOrder() {
+    return TraverseOrder.REV;
+  }
+
   @Override
   public <T> void traverse(TreeNode<T> node, NodeVisitor<T> visitor) {
     if (!visitor.accept(node)) {
@@ -30,4 +38,27 @@ public class RevOrderTreeTraverser implements TreeNode.TreeTraverser {
       }
     }
   }
+
+  @Override
+  public <T> void traverseWithDepth(TreeNode<T> node, DepthNodeVisitor<T> visitor) {
+    traverseWithDepth(node, visitor, 0);
+  }
+
+  private <T> void traverseWithDepth(TreeNode<T> node, DepthNodeVisitor<T> visitor, int depth) {
+    if (!visitor.accept(node, depth)) {
+      return;
+    }
+    visitor.visit(node, depth);
+    final List<TreeNode<T>> children = node.getChildren();
+    if (!children.isEmpty() && visitor.acceptChildren(node, depth)) {
+      for (int i = children.size() - 1; i >= 0; --i) {
+        traverseWithDepth(children.get(i), visitor, depth + 1);
+      }
+    }
+  }
+
+  @Override
+  public <T> void walkPath(TreeNode<T> node, PathNodeVisitor<T> visitor) {
+    PathWalker.walk(node, visitor, true);
+  }
 }
@@ -0,0 +1,252 @@
+package org.blacksmith.commons.tree.traverser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.blacksmith.commons.tree.TraverseOrder;
+import org.blacksmith.commons.tree.TreeNode;
+import org.blacksmith.commons.tree.TreeNode.ControlledNodeVisitor;
+import org.blacksmith.commons.tree.TreeNode.VisitResult;
+
+/**
+ * Pull based traversal. Children are read only when the iterator moves past their parent, so stopping the iteration
+ * stops the traversal.
+ */
+public final class TreeIterators {
+
+  private TreeIterators() {
+  }
+
+  public static <T> TreeIterator<T> iterator(TreeNode<T> node, TraverseOrder order) {
+    switch (order) {
+      case PRE:
+        return new DepthFirstIterator<>(node, false);
+      case REV:
+        return new DepthFirstIterator<>(node, true);
+      case BREADTH:
+        return new BreadthIterator<>(node);
+      case POST:
+        return new PostOrderIterator<>(node);
+      default:
+        throw new IllegalArgumentException("Unsupported order: " + order);
+    }
+  }
+
+  /**
+   * Visits nodes until the visitor returns {@link VisitResult#TERMINATE}. {@link VisitResult#SKIP_SUBTREE} is ignored
+   * in {@link TraverseOrder#POST} order, where children are visited before their parent.
+   *
+   * @return {@code false} if the walk has been terminated by the visitor
+   */
+  public static <T> boolean walk(TreeNode<T> node, TraverseOrder order, ControlledNodeVisitor<T> visitor) {
+    final TreeIterator<T> it = iterator(node, order);
+    while (it.hasNext()) {
+      VisitResult result = visitor.visit(it.next());
+      if (result == VisitResult.TERMINATE) {
+        return false;
+      }
+      if (result == VisitResult.SKIP_SUBTREE && order != TraverseOrder.POST) {
+        it.skipChildren();
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Breadth-first iteration by levels, the first level is the node itself. A level is read only when the iterator
+   * moves past the previous one, so nodes below the last requested level are never touched.
+   */
+  public static <T> Iterator<List<TreeNode<T>>> levels(TreeNode<T> node) {
+    return new LevelIterator<>(node);
+  }
+
+  public interface TreeIterator<T> extends Iterator<TreeNode<T>> {
+
+    /**
+     * Skips descendants of the node returned by the last {@link #next()} call.
+     *
+     * @throws IllegalStateException if descendants have been already returned (post-order)
+     */
+    void skipChildren();
+  }
+
+  private static final class DepthFirstIterator<T> implements TreeIterator<T> {
+
+    private final Deque<TreeNode<T>> dq = new ArrayDeque<>();
+    private final boolean reversed;
+    private TreeNode<T> last;
+
+    private DepthFirstIterator(TreeNode<T> node, boolean reversed) {
+      this.reversed = reversed;
+      dq.add(node);
+    }
+
+    private void expand() {
+      if (last != null) {
+        final List<TreeNode<T>> children = last.getChildren();
+        if (reversed) {
+          for (int i = 0; i < children.size(); ++i) {
+            dq.add(children.get(i));
+          }
+        } else {
+          for (int i = children.size() - 1; i >= 0; --i) {
+            dq.add(children.get(i));
+          }
+        }
+        last = null;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      expand();
+      return !dq.isEmpty();
+    }
+
+    @Override
+    public TreeNode<T> next() {
+      expand();
+      TreeNode<T> n = dq.pollLast();
+      if (n == null) {
+        throw new NoSuchElementException();
+      }
+      last = n;
+      return n;
+    }
+
+    @Override
+    public void skipChildren() {
+      last = null;
+    }
+  }
+
+  private static final class BreadthIterator<T> implements TreeIterator<T> {
+
+    private final Deque<TreeNode<T>> dq = new ArrayDeque<>();
+    private TreeNode<T> last;
+
+    private BreadthIterator(TreeNode<T> node) {
+      dq.add(node);
+    }
+
+    private void expand() {
+      if (last != null) {
+        final List<TreeNode<T>> children = last.getChildren();
+        for (int i = 0; i < children.size(); ++i) {
+          dq.add(children.get(i));
+        }
+        last = null;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      expand();
+      return !dq.isEmpty();
+    }
+
+    @Override
+    public TreeNode<T> next() {
+      expand();
+      TreeNode<T> n = dq.pollFirst();
+      if (n == null) {
+        throw new NoSuchElementException();
+      }
+      last = n;
+      return n;
+    }
+
+    @Override
+    public void skipChildren() {
+      last = null;
+    }
+  }
+
+  /**
+   * Keeps one frame (node, index of the next child) per level, so memory is O(depth).
+   */
+  private static final class PostOrderIterator<T> implements TreeIterator<T> {
+
+    private TreeNode<?>[] nodes = new TreeNode<?>[16];
+    private int[] indexes = new int[16];
+    private int top = -1;
+
+    private PostOrderIterator(TreeNode<T> node) {
+      push(node);
+    }
+
+    private void push(TreeNode<T> node) {
+      if (++top == nodes.length) {
+        nodes = Arrays.copyOf(nodes, top << 1);
+        indexes = Arrays.copyOf(indexes, top << 1);
+      }
+      nodes[top] = node;
+      indexes[top] = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return top >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public TreeNode<T> next() {
+      if (top < 0) {
+        throw new NoSuchElementException();
+      }
+      while (true) {
+        TreeNode<T> n = (TreeNode<T>) nodes[top];
+        final List<TreeNode<T>> children = n.getChildren();
+        if (indexes[top] < children.size()) {
+          push(children.get(indexes[top]++));
+        } else {
+          nodes[top--] = null;
+          return n;
+        }
+      }
+    }
+
+    @Override
+    public void skipChildren() {
+      throw new IllegalStateException("Children are visited before their parent in post-order");
+    }
+  }
+
+  private static final class LevelIterator<T> implements Iterator<List<TreeNode<T>>> {
+
+    private List<TreeNode<T>> nextLevel;
+    private List<TreeNode<T>> last;
+
+    private LevelIterator(TreeNode<T> node) {
+      this.nextLevel = List.of(node);
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (nextLevel == null && last != null) {
+        final List<TreeNode<T>> level = new ArrayList<>();
+        for (int i = 0; i < last.size(); ++i) {
+          level.addAll(last.get(i).getChildren());
+        }
+        nextLevel = level;
+        last = null;
+      }
+      return nextLevel != null && !nextLevel.isEmpty();
+    }
+
+    @Override
+    public List<TreeNode<T>> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      last = nextLevel;
+      nextLevel = null;
+      return last;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package org.blacksmith.commons.enums;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IntEnumConverterTest {
+
+  enum Dense {
+    A(-1), B(0), C(3);
+
+    private final int code;
+
+    Dense(int code) {
+      this.code = code;
+    }
+
+    int getCode() {
+      return code;
+    }
+  }
+
+  enum Sparse {
+    A(Integer.MIN_VALUE), B(-70000), C(5), D(1_000_000), E(Integer.MAX_VALUE);
+
+    private final int code;
+
+    Sparse(int code) {
+      this.code = code;
+    }
+
+    int getCode() {
+      return code;
+    }
+  }
+
+  enum Duplicated {
+    A, B;
+
+    int getCode() {
+      return 7;
+    }
+  }
+
+  @Test
+  public void shouldConvertDenseCodes() {
+    IntEnumConverter<Dense> converter = EnumConverterFactory.ofInt(Dense.class, Dense::getCode);
+    for (Dense value : Dense.values()) {
+      assertEquals(value, converter.convert(value.getCode()));
+    }
+    assertEquals(Dense.C, converter.convert(Integer.valueOf(3)));
+    assertEquals(Dense.C, converter.convert((short) 3));
+    Assertions.assertThrows(EnumConversionException.class, () -> converter.convert(1));
+    Assertions.assertThrows(EnumConversionException.class, () -> converter.convert(-2));
+    Assertions.assertThrows(EnumConversionException.class, () -> converter.convert(Integer.MIN_VALUE));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> converter.convert((Integer) null));
+  }
+
+  @Test
+  public void shouldConvertSparseCodes() {
+    IntEnumConverter<Sparse> converter = IntEnumConverter.of(Sparse.class, Sparse::getCode);
+    for (Sparse value : Sparse.values()) {
+      assertEquals(value, converter.convert(value.getCode()));
+    }
+    Assertions.assertThrows(EnumConversionException.class, () -> converter.convert(0));
+    Assertions.assertThrows(EnumConversionException.class, () -> converter.convert(4));
+  }
+
+  @Test
+  public void shouldRejectDuplicatedCodes() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> IntEnumConverter.of(Duplicated.class, Duplicated::getCode));
+  }
+}
@@ -0,0 +1,97 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.blacksmith.commons.tree.traverser.BreadthOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PostOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser2;
+import org.blacksmith.commons.tree.traverser.RevOrderTreeTraverser;
+import org.junit.jupiter.api.Test;
+
+public class CompactTreeTest {
+
+  Integer[] PRE_ORDER_EXPECTED = {1, 2, 4, 5, 3, 6, 8, 9, 7};
+  Integer[] POST_ORDER_EXPECTED = {4, 5, 2, 8, 9, 6, 7, 3, 1};
+  Integer[] BREATH_ORDER_EXPECTED = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+  Integer[] REV_ORDER_EXPECTED = {1, 3, 7, 6, 9, 8, 2, 5, 4};
+
+  @Test
+  public void shouldTraverseCopiedTree() {
+    CompactTree<Integer> tree = CompactTree.of(StdTraverseTreeFactory.createTree());
+    TreeNode<Integer> root = tree.getRoot();
+    assertThat(tree.size()).isEqualTo(9);
+    assertThat(root.toDataList(new PreOrderTreeTraverser())).containsExactly(PRE_ORDER_EXPECTED);
+    assertThat(root.toDataList(new PreOrderTreeTraverser2())).containsExactly(PRE_ORDER_EXPECTED);
+    assertThat(root.toDataList(new PostOrderTreeTraverser())).containsExactly(POST_ORDER_EXPECTED);
+    assertThat(root.toDataList(new BreadthOrderTreeTraverser())).containsExactly(BREATH_ORDER_EXPECTED);
+    assertThat(root.toDataList(new RevOrderTreeTraverser())).containsExactly(REV_ORDER_EXPECTED);
+  }
+
+  @Test
+  public void shouldTraverseByIndex() {
+    CompactTree<Integer> tree = CompactTree.of(StdTraverseTreeFactory.createTree());
+    StringBuilder sb = new StringBuilder();
+    tree.traverse(CompactTree.ROOT, index -> sb.append(tree.getData(index)));
+    assertThat(sb.toString()).isEqualTo("124536897");
+    int node3 = tree.getNextSibling(tree.getFirstChild(CompactTree.ROOT));
+    assertThat(tree.getData(node3)).isEqualTo(3);
+    assertThat(tree.subtreeSize(node3)).isEqualTo(5);
+    assertThat(tree.getChildCount(node3)).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNavigateAndSearch() {
+    TreeNode<Integer> root = CompactTree.of(StdTraverseTreeFactory.createTree()).getRoot();
+    var node3 = root.findDescendantWith(3);
+    var node8 = root.findDescendantWith(8);
+    assertThat(root.size()).isEqualTo(9);
+    assertThat(node3.size()).isEqualTo(5);
+    assertThat(node8.getParent().getData()).isEqualTo(6);
+    assertThat(node8.isDescendantOf(node3)).isTrue();
+    assertThat(node3.isDescendantOf(node8)).isFalse();
+    assertThat(root.isParentOf(node3)).isTrue();
+    assertThat(node8.isChildOf(node3)).isFalse();
+    assertThat(node8.isLeaf()).isTrue();
+    assertThat(root.isRoot()).isTrue();
+    assertThat(root.contains(9)).isTrue();
+    assertThat(node3.contains(4)).isFalse();
+    assertThat(root.findDescendantsWith((d) -> d > 6).size()).isEqualTo(3);
+    assertThat(root.findDescendantWith(3)).isEqualTo(node3);
+  }
+
+  @Test
+  public void shouldCopyOwnSubtree() {
+    CompactTree<Integer> tree = CompactTree.of(StdTraverseTreeFactory.createTree());
+    TreeNode<Integer> root = tree.getRoot();
+    var node3 = root.findDescendantWith(3);
+    var node8 = root.findDescendantWith(8);
+    var copy = node3.addChild(node3);
+    assertThat(copy.toDataList()).containsExactly(3, 6, 8, 9, 7);
+    assertThat(node3.toDataList()).containsExactly(3, 6, 8, 9, 7, 3, 6, 8, 9, 7);
+    node8.addChild(root);
+    assertThat(tree.size()).isEqualTo(28);
+  }
+
+  @Test
+  public void shouldModify() {
+    CompactTree<Integer> tree = new CompactTree<>(1);
+    TreeNode<Integer> root = tree.getRoot();
+    var node2 = root.addChildWith(2);
+    node2.addChildWith(4);
+    root.addChildWith(3).addChildWith(5);
+    assertThat(root.toDataList()).containsExactly(1, 2, 4, 3, 5);
+    node2.setData(20);
+    assertThat(root.findDescendantWith(20)).isEqualTo(node2);
+    var removed = root.removeChild(node2);
+    assertThat(removed.getParent()).isNull();
+    assertThat(root.toDataList()).containsExactly(1, 3, 5);
+    root.addChild(StdTraverseTreeFactory.createTree());
+    assertThat(root.size()).isEqualTo(12);
+    root.removeDescendantWith(6);
+    assertThat(root.toDataList()).containsExactly(1, 3, 5, 1, 2, 4, 5, 3, 7);
+    root.clear();
+    assertThat(root.size()).isEqualTo(1);
+    assertThat(root.getChildren()).isEmpty();
+  }
+}
@@ -0,0 +1,85 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentTreeNodeTest {
+
+  private static ConcurrentTreeNode<Integer> createTree() {
+    return StdTraverseTreeFactory.createTree(ConcurrentTreeNode.of(1));
+  }
+
+  @Test
+  public void shouldBehaveAsTree() {
+    var root = createTree();
+    assertThat(root.toDataList()).containsExactly(1, 2, 4, 5, 3, 6, 8, 9, 7);
+    assertThat(root.size()).isEqualTo(9);
+    var node6 = root.findDescendantWith(6);
+    assertThat(node6.isDescendantOf(root)).isTrue();
+    root.findDescendantWith(2).addChild(node6);
+    assertThat(root.findDescendantWith(3).getChildren()).extracting(TreeNode::getData).containsExactly(7);
+    assertThat(node6.getParent().getData()).isEqualTo(2);
+    assertThat(root.toDataList()).containsExactly(1, 2, 4, 5, 6, 8, 9, 3, 7);
+    assertThat(root.removeChild(root.findDescendantWith(3)).isRoot()).isTrue();
+    assertThat(root.size()).isEqualTo(7);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> root.addChild(BTreeNode.of(10)));
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> root.getChildren().clear());
+  }
+
+  @Test
+  public void shouldClear() {
+    var root = createTree();
+    var node3 = root.findDescendantWith(3);
+    var node6 = node3.findDescendantWith(6);
+    node3.clear();
+    assertThat(node3.getData()).isNull();
+    assertThat(node3.isRoot()).isTrue();
+    assertThat(node6.isRoot()).isTrue();
+    assertThat(root.toDataList()).containsExactly(1, 2, 4, 5);
+  }
+
+  @Test
+  public void shouldAllowConcurrentReadersAndWriters() throws Exception {
+    final ConcurrentTreeNode<Integer> root = ConcurrentTreeNode.of(0);
+    final int writers = 4;
+    final int perWriter = 2000;
+    final List<TreeNode<Integer>> branches = new ArrayList<>();
+    for (int i = 0; i < writers; ++i) {
+      branches.add(root.addChildWith(-1));
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int w = 0; w < writers; ++w) {
+        final TreeNode<Integer> branch = branches.get(w);
+        futures.add(executor.submit(() -> {
+          TreeNode<Integer> node = branch;
+          for (int i = 0; i < perWriter; ++i) {
+            node = i % 10 == 0 ? node.addChildWith(i) : branch.addChildWith(i);
+          }
+        }));
+      }
+      for (int r = 0; r < 2; ++r) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 50; ++i) {
+            assertThat(root.size()).isGreaterThan(writers);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(root.size()).isEqualTo(1 + writers + writers * perWriter);
+  }
+}
@@ -0,0 +1,127 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.blacksmith.commons.tree.TreeNode.DepthNodeVisitor;
+import org.blacksmith.commons.tree.TreeNode.NodeVisitor;
+import org.blacksmith.commons.tree.TreeNode.TreeTraverser;
+import org.blacksmith.commons.tree.traverser.BreadthOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.IterativePostOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.ParallelTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PostOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser2;
+import org.blacksmith.commons.tree.traverser.RevOrderTreeTraverser;
+import org.junit.jupiter.api.Test;
+
+public class DepthVisitorTest {
+
+  private static final TreeTraverser DEFAULT_TRAVERSER = new TreeTraverser() {
+    private final TreeTraverser delegate = new PostOrderTreeTraverser();
+
+    @Override
+    public <T> void traverse(TreeNode<T> node, NodeVisitor<T> visitor) {
+      delegate.traverse(node, visitor);
+    }
+
+    @Override
+    public <T> void fullTraverse(TreeNode<T> node, NodeVisitor<T> visitor) {
+      delegate.fullTraverse(node, visitor);
+    }
+  };
+
+  private static List<TreeTraverser> traversers() {
+    return List.of(new PreOrderTreeTraverser(), new PreOrderTreeTraverser2(), new PostOrderTreeTraverser(),
+        new IterativePostOrderTreeTraverser(), new RevOrderTreeTraverser(), new BreadthOrderTreeTraverser(),
+        new ParallelTreeTraverser(2, true), DEFAULT_TRAVERSER);
+  }
+
+  private static int depth(TreeNode<Integer> node) {
+    int depth = 0;
+    for (TreeNode<Integer> n = node.getParent(); n != null; n = n.getParent()) {
+      ++depth;
+    }
+    return depth;
+  }
+
+  @Test
+  public void shouldVisitWithDepth() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    for (TreeTraverser traverser : traversers()) {
+      final List<Integer> data = new ArrayList<>();
+      final List<Integer> depths = new ArrayList<>();
+      final List<Integer> expectedDepths = new ArrayList<>();
+      traverser.traverseWithDepth(tree, (TreeNode<Integer> node, int depth) -> {
+        data.add(node.getData());
+        depths.add(depth);
+        expectedDepths.add(depth(node));
+      });
+      // the default traverseWithDepth visits in pre-order whatever the traverser's order is
+      final TreeTraverser order = traverser == DEFAULT_TRAVERSER ? new PreOrderTreeTraverser() : traverser;
+      assertThat(data).isEqualTo(tree.toDataList(order));
+      assertThat(depths).isEqualTo(expectedDepths);
+    }
+  }
+
+  @Test
+  public void shouldPruneWithDepth() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    for (TreeTraverser traverser : traversers()) {
+      final List<Integer> data = new ArrayList<>();
+      traverser.traverseWithDepth(tree, new DepthNodeVisitor<Integer>() {
+        @Override
+        public void visit(TreeNode<Integer> node, int depth) {
+          data.add(node.getData());
+        }
+
+        @Override
+        public boolean accept(TreeNode<Integer> node, int depth) {
+          return node.getData() != 7;
+        }
+
+        @Override
+        public boolean acceptChildren(TreeNode<Integer> node, int depth) {
+          return depth < 2;
+        }
+      });
+      assertThat(data).containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6);
+    }
+  }
+
+  @Test
+  public void shouldWalkPath() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    final List<String> events = new ArrayList<>();
+    final TreeNode.PathNodeVisitor<Integer> visitor = new TreeNode.PathNodeVisitor<>() {
+      @Override
+      public boolean enter(TreeNode<Integer> node, int depth) {
+        events.add("+" + node.getData() + "@" + depth);
+        return node.getData() != 6;
+      }
+
+      @Override
+      public void leave(TreeNode<Integer> node, int depth) {
+        events.add("-" + node.getData());
+      }
+    };
+    for (TreeTraverser traverser : List.of(new PreOrderTreeTraverser(), new PreOrderTreeTraverser2(),
+        new PostOrderTreeTraverser(), new IterativePostOrderTreeTraverser())) {
+      events.clear();
+      traverser.walkPath(tree, visitor);
+      assertThat(events).containsExactly("+1@0", "+2@1", "+4@2", "-4", "+5@2", "-5", "-2", "+3@1", "+6@2", "-6",
+          "+7@2", "-7", "-3", "-1");
+    }
+    events.clear();
+    new RevOrderTreeTraverser().walkPath(tree.findDescendantWith(3), visitor);
+    assertThat(events).containsExactly("+3@0", "+7@1", "-7", "+6@1", "-6", "-3");
+    for (TreeTraverser traverser : List.of(new BreadthOrderTreeTraverser(), new ParallelTreeTraverser(),
+        DEFAULT_TRAVERSER)) {
+      events.clear();
+      traverser.walkPath(tree, visitor);
+      assertThat(events).containsExactly("+1@0", "+2@1", "+4@2", "-4", "+5@2", "-5", "-2", "+3@1", "+6@2", "-6",
+          "+7@2", "-7", "-3", "-1");
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FrozenTreeTest {
+
+  @Test
+  public void shouldLabelNodesInPreOrder() {
+    var root = StdTraverseTreeFactory.createTree();
+    var tree = FrozenTree.of(root);
+    assertThat(tree.size()).isEqualTo(9);
+    assertThat(tree.getRoot().toDataList()).containsExactly(1, 2, 4, 5, 3, 6, 8, 9, 7);
+    assertThat(tree.getEnd(0)).isEqualTo(8);
+    assertThat(tree.getEnd(1)).isEqualTo(3);
+    assertThat(tree.getEnd(5)).isEqualTo(7);
+    assertThat(tree.getDepth(6)).isEqualTo(3);
+    assertThat(tree.getSubtreeSize(4)).isEqualTo(5);
+    assertThat(tree.getParent(6)).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldAnswerAncestorQueries() {
+    var root = StdTraverseTreeFactory.createTree();
+    var tree = FrozenTree.of(root);
+    var node3 = root.findDescendantWith(3);
+    var node8 = root.findDescendantWith(8);
+    var node4 = root.findDescendantWith(4);
+    assertThat(tree.isDescendantOf(node8, node3)).isTrue();
+    assertThat(tree.isDescendantOf(node8, root)).isTrue();
+    assertThat(tree.isDescendantOf(node4, node3)).isFalse();
+    assertThat(tree.isDescendantOf(node3, node3)).isFalse();
+    assertThat(tree.isDescendantOf(node3, node8)).isFalse();
+    assertThat(tree.isDescendantOf(node8, BTreeNode.of(3))).isFalse();
+    assertThat(tree.isParentOf(4, 5)).isTrue();
+    assertThat(tree.isParentOf(0, 5)).isFalse();
+  }
+
+  @Test
+  public void shouldFindCursorNodesOfSource() {
+    var compact = CompactTree.of(StdTraverseTreeFactory.createTree());
+    var tree = FrozenTree.of(compact.getRoot());
+    var node3 = compact.getRoot().getChildren().get(1);
+    var node8 = node3.getChildren().get(0).getChildren().get(0);
+    assertThat(tree.indexOf(node3)).isEqualTo(4);
+    assertThat(tree.isDescendantOf(node8, node3)).isTrue();
+    assertThat(tree.isDescendantOf(node3, node8)).isFalse();
+  }
+
+  @Test
+  public void shouldProvideNodeViews() {
+    var tree = FrozenTree.of(StdTraverseTreeFactory.createTree());
+    var node3 = tree.getNode(4);
+    assertThat(node3.getData()).isEqualTo(3);
+    assertThat(node3.getChildren()).extracting(TreeNode::getData).containsExactly(6, 7);
+    assertThat(node3.getParent()).isEqualTo(tree.getRoot());
+    assertThat(tree.getNode(6).isDescendantOf(node3)).isTrue();
+    assertThat(tree.getNode(2).isDescendantOf(node3)).isFalse();
+    assertThat(node3.isParentOf(tree.getNode(8))).isTrue();
+    assertThat(tree.getNode(8).isLeaf()).isTrue();
+    assertThat(node3.size()).isEqualTo(5);
+    assertThat(tree.getDescendants(4)).extracting(TreeNode::getData).containsExactly(6, 8, 9, 7);
+    assertThat(tree.getDescendants(2)).isEmpty();
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> node3.addChildWith(10));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> tree.getNode(9));
+  }
+
+  @Test
+  public void shouldRebuildFromChangedSource() {
+    var root = StdTraverseTreeFactory.createTree();
+    var tree = FrozenTree.of(root);
+    root.findDescendantWith(7).addChildWith(10);
+    assertThat(tree.size()).isEqualTo(9);
+    var rebuilt = tree.rebuild();
+    assertThat(rebuilt.size()).isEqualTo(10);
+    assertThat(rebuilt.getDescendants(4)).extracting(TreeNode::getData).containsExactly(6, 8, 9, 7, 10);
+    assertThat(rebuilt.isDescendantOf(root.findDescendantWith(10), root.findDescendantWith(3))).isTrue();
+  }
+}
@@ -0,0 +1,66 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IndexedTreeNodeTest {
+
+  private static IndexedTreeNode<Integer> createTree() {
+    return StdTraverseTreeFactory.createTree(IndexedTreeNode.of(1));
+  }
+
+  @Test
+  public void shouldFindByIndex() {
+    var root = createTree();
+    assertThat(root.getIndex().size()).isEqualTo(9);
+    assertThat(root.contains(8)).isTrue();
+    assertThat(root.contains(10)).isFalse();
+    var node3 = root.findDescendantWith(3);
+    assertThat(node3.getData()).isEqualTo(3);
+    assertThat(node3.contains(8)).isTrue();
+    assertThat(node3.contains(4)).isFalse();
+    assertThat(node3.findDescendantWith(5)).isNull();
+    assertThat(root.toDataList()).containsExactly(1, 2, 4, 5, 3, 6, 8, 9, 7);
+  }
+
+  @Test
+  public void shouldUpdateIndexOnSetData() {
+    var root = createTree();
+    var node7 = root.findDescendantWith(7);
+    node7.setData(8);
+    assertThat(root.contains(7)).isFalse();
+    assertThat(root.findDescendantsWith(8).size()).isEqualTo(2);
+    assertThat(root.findDescendantWith(8)).isNull();
+    assertThat(root.findTopDescendantsWith(8).size()).isEqualTo(2);
+    root.findDescendantWith(6).setData(8);
+    assertThat(root.findDescendantsWith(8).size()).isEqualTo(3);
+    assertThat(root.findTopDescendantsWith(8).size()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldUpdateIndexOnRemoveAndAdd() {
+    var root = createTree();
+    var node3 = (IndexedTreeNode<Integer>) root.removeDescendantWith(3);
+    assertThat(root.getIndex().size()).isEqualTo(4);
+    assertThat(root.contains(8)).isFalse();
+    assertThat(node3.getIndex().size()).isEqualTo(5);
+    assertThat(node3.contains(8)).isTrue();
+    root.findDescendantWith(2).addChild(node3);
+    assertThat(root.getIndex().size()).isEqualTo(9);
+    assertThat(root.findDescendantWith(8).isDescendantOf(root.findDescendantWith(2))).isTrue();
+    root.removeDescendantsWith(6);
+    assertThat(root.getIndex().size()).isEqualTo(6);
+    assertThat(root.contains(9)).isFalse();
+  }
+
+  @Test
+  public void shouldUpdateIndexOnClear() {
+    var root = createTree();
+    root.clear();
+    assertThat(root.getIndex().size()).isEqualTo(1);
+    assertThat(root.contains(2)).isFalse();
+    Assertions.assertThrows(IllegalArgumentException.class, () -> root.addChild(new BTreeNode<>(2)));
+  }
+}
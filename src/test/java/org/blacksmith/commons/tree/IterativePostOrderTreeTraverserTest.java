@@ -0,0 +1,91 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.blacksmith.commons.tree.TreeNode.NodeVisitor;
+import org.blacksmith.commons.tree.traverser.IterativePostOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PostOrderTreeTraverser;
+import org.junit.jupiter.api.Test;
+
+public class IterativePostOrderTreeTraverserTest {
+
+  Integer[] POST_ORDER_EXPECTED = {4, 5, 2, 8, 9, 6, 7, 3, 1};
+
+  @Test
+  public void shouldTraverseInPostOrder() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    assertThat(tree.toDataList(new IterativePostOrderTreeTraverser())).containsExactly(POST_ORDER_EXPECTED);
+  }
+
+  @Test
+  public void shouldPruneLikePostOrderTraverser() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    final NodeVisitor<Integer> pruning = new NodeVisitor<>() {
+      @Override
+      public void visit(TreeNode<Integer> node) {
+      }
+
+      @Override
+      public boolean accept(TreeNode<Integer> node) {
+        return node.getData() != 7;
+      }
+
+      @Override
+      public boolean acceptChildren(TreeNode<Integer> node) {
+        return node.getData() != 2;
+      }
+    };
+    final List<Integer> expected = new ArrayList<>();
+    new PostOrderTreeTraverser().traverse(tree, visitor(pruning, expected));
+    final List<Integer> actual = new ArrayList<>();
+    new IterativePostOrderTreeTraverser().traverse(tree, visitor(pruning, actual));
+    assertThat(actual).containsExactly(2, 8, 9, 6, 3, 1);
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public void shouldReuseStackAndSupportNestedTraversal() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    final IterativePostOrderTreeTraverser traverser = new IterativePostOrderTreeTraverser();
+    final IterativePostOrderTreeTraverser.FrameStack stack = new IterativePostOrderTreeTraverser.FrameStack();
+    final List<Integer> sizes = new ArrayList<>();
+    traverser.fullTraverse(tree, node -> sizes.add(node.toDataList(traverser).size()));
+    assertThat(sizes).containsExactly(1, 1, 3, 1, 1, 3, 1, 5, 9);
+    final List<Integer> data = new ArrayList<>();
+    traverser.fullTraverse(tree, node -> data.add(node.getData()), stack);
+    assertThat(data).containsExactly(4, 5, 2, 8, 9, 6, 7, 3, 1);
+  }
+
+  @Test
+  public void shouldTraverseDeepChain() {
+    final BTreeNode<Integer> root = BTreeNode.of(0);
+    TreeNode<Integer> node = root;
+    for (int i = 1; i < 100_000; ++i) {
+      node = node.addChildWith(i);
+    }
+    final Counter counter = new Counter();
+    new IterativePostOrderTreeTraverser().fullTraverse(root, n -> counter.increment());
+    assertThat(counter.get()).isEqualTo(100_000);
+  }
+
+  private static NodeVisitor<Integer> visitor(NodeVisitor<Integer> pruning, List<Integer> result) {
+    return new NodeVisitor<>() {
+      @Override
+      public void visit(TreeNode<Integer> node) {
+        result.add(node.getData());
+      }
+
+      @Override
+      public boolean accept(TreeNode<Integer> node) {
+        return pruning.accept(node);
+      }
+
+      @Override
+      public boolean acceptChildren(TreeNode<Integer> node) {
+        return pruning.acceptChildren(node);
+      }
+    };
+  }
+}
@@ -0,0 +1,86 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.blacksmith.commons.tree.TreeNode.TreeTraverser;
+import org.blacksmith.commons.tree.traverser.BreadthOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.IterativePostOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PostOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser2;
+import org.blacksmith.commons.tree.traverser.RevOrderTreeTraverser;
+import org.junit.jupiter.api.Test;
+
+public class LevelTraversalTest {
+
+  @Test
+  public void shouldTraverseDepthRange() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    for (TreeTraverser traverser : List.of(new PreOrderTreeTraverser(), new PreOrderTreeTraverser2(),
+        new PostOrderTreeTraverser(), new IterativePostOrderTreeTraverser(), new RevOrderTreeTraverser(),
+        new BreadthOrderTreeTraverser())) {
+      final List<Integer> topLevels = new ArrayList<>();
+      traverser.traverse(tree, node -> topLevels.add(node.getData()), 0, 1);
+      assertThat(topLevels).containsExactlyInAnyOrder(1, 2, 3);
+      final List<Integer> middle = new ArrayList<>();
+      traverser.traverse(tree, node -> middle.add(node.getData()), 2, 2);
+      assertThat(middle).containsExactlyInAnyOrder(4, 5, 6, 7);
+    }
+    final List<Integer> preOrder = new ArrayList<>();
+    new PreOrderTreeTraverser().traverse(tree, node -> preOrder.add(node.getData()), 1, 2);
+    assertThat(preOrder).containsExactly(2, 4, 5, 3, 6, 7);
+  }
+
+  @Test
+  public void shouldIterateLevels() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    final List<List<Integer>> levels = new ArrayList<>();
+    final Iterator<List<TreeNode<Integer>>> it = tree.levels();
+    while (it.hasNext()) {
+      final List<Integer> level = new ArrayList<>();
+      for (TreeNode<Integer> node : it.next()) {
+        level.add(node.getData());
+      }
+      levels.add(level);
+    }
+    assertThat(levels).containsExactly(List.of(1), List.of(2, 3), List.of(4, 5, 6, 7), List.of(8, 9));
+  }
+
+  @Test
+  public void shouldNotReadLevelsBelowRequested() {
+    final Counter reads = new Counter();
+    final BTreeNode<Integer> root = new CountingNode(0, reads);
+    TreeNode<Integer> node = root;
+    for (int i = 1; i < 1000; ++i) {
+      node = node.addChild(new CountingNode(i, reads));
+    }
+    final Iterator<List<TreeNode<Integer>>> it = root.levels();
+    it.next();
+    it.next();
+    assertThat(it.next().get(0).getData()).isEqualTo(2);
+    assertThat(reads.get()).isEqualTo(2);
+    final Counter visited = new Counter();
+    new PreOrderTreeTraverser().traverse(root, n -> visited.increment(), 0, 3);
+    assertThat(visited.get()).isEqualTo(4);
+    assertThat(reads.get()).isLessThan(10);
+  }
+
+  private static final class CountingNode extends BTreeNode<Integer> {
+
+    private final Counter reads;
+
+    private CountingNode(Integer data, Counter reads) {
+      super(data);
+      this.reads = reads;
+    }
+
+    @Override
+    public List<TreeNode<Integer>> getChildren() {
+      reads.increment();
+      return super.getChildren();
+    }
+  }
+}
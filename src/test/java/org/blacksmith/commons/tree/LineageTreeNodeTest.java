@@ -0,0 +1,63 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LineageTreeNodeTest {
+
+  private static LineageTreeNode<Integer> createTree() {
+    return StdTraverseTreeFactory.createTree(LineageTreeNode.of(1));
+  }
+
+  private static LineageTreeNode<Integer> find(LineageTreeNode<Integer> root, int data) {
+    return (LineageTreeNode<Integer>) root.findDescendantWith(data);
+  }
+
+  @Test
+  public void shouldCachePathShared() {
+    var root = createTree();
+    assertThat(find(root, 8).getPath()).extracting(TreeNode::getData).containsExactly(1, 3, 6, 8);
+    assertThat(find(root, 8).getAncestors()).extracting(TreeNode::getData).containsExactly(1, 3, 6);
+    assertThat(find(root, 8).getAncestors()).isSameAs(find(root, 9).getAncestors());
+    assertThat(find(root, 8).getPath()).isSameAs(find(root, 8).getPath());
+    assertThat(find(root, 8).getDepth()).isEqualTo(3);
+    assertThat(root.getAncestors()).isEmpty();
+    assertThat(root.getPath()).containsExactly(root);
+  }
+
+  @Test
+  public void shouldInvalidatePathOnMove() {
+    var root = createTree();
+    var node6 = find(root, 6);
+    var node8 = find(root, 8);
+    assertThat(node8.getPath()).extracting(TreeNode::getData).containsExactly(1, 3, 6, 8);
+    find(root, 3).removeChild(node6);
+    assertThat(node8.getPath()).extracting(TreeNode::getData).containsExactly(6, 8);
+    find(root, 2).addChild(node6);
+    assertThat(node8.getPath()).extracting(TreeNode::getData).containsExactly(1, 2, 6, 8);
+    assertThat(node8.getAncestors()).isSameAs(node6.getPath());
+  }
+
+  @Test
+  public void shouldCacheAndInvalidateLeaves() {
+    var root = createTree();
+    assertThat(root.getLeaves()).extracting(TreeNode::getData).containsExactly(4, 5, 8, 9, 7);
+    assertThat(root.getLeaves()).isSameAs(root.getLeaves());
+    assertThat(find(root, 3).getLeaves()).extracting(TreeNode::getData).containsExactly(8, 9, 7);
+    find(root, 7).addChildWith(10);
+    assertThat(root.getLeaves()).extracting(TreeNode::getData).containsExactly(4, 5, 8, 9, 10);
+    assertThat(find(root, 3).getLeaves()).extracting(TreeNode::getData).containsExactly(8, 9, 10);
+    root.removeChild(find(root, 2));
+    assertThat(root.getLeaves()).extracting(TreeNode::getData).containsExactly(8, 9, 10);
+    var node3 = find(root, 3);
+    find(root, 6).clear();
+    assertThat(node3.getLeaves()).extracting(TreeNode::getData).containsExactly(null, 10);
+  }
+
+  @Test
+  public void shouldRejectOtherNodes() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> createTree().addChild(new BTreeNode<>(10)));
+  }
+}
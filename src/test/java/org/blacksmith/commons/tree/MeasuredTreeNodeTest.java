@@ -0,0 +1,63 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MeasuredTreeNodeTest {
+
+  private static MeasuredTreeNode<Integer> createTree() {
+    return StdTraverseTreeFactory.createTree(MeasuredTreeNode.of(1));
+  }
+
+  private static MeasuredTreeNode<Integer> find(MeasuredTreeNode<Integer> root, int data) {
+    return (MeasuredTreeNode<Integer>) root.findDescendantWith(data);
+  }
+
+  @Test
+  public void shouldKeepCounters() {
+    var root = createTree();
+    assertThat(root.size()).isEqualTo(9);
+    assertThat(root.getHeight()).isEqualTo(3);
+    assertThat(root.getDepth()).isEqualTo(0);
+    assertThat(find(root, 3).size()).isEqualTo(5);
+    assertThat(find(root, 3).getHeight()).isEqualTo(2);
+    assertThat(find(root, 8).getDepth()).isEqualTo(3);
+    assertThat(find(root, 2).getHeight()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldUpdateCountersOnRemoveAndMove() {
+    var root = createTree();
+    var node6 = find(root, 6);
+    find(root, 3).removeChild(node6);
+    assertThat(root.size()).isEqualTo(6);
+    assertThat(root.getHeight()).isEqualTo(2);
+    assertThat(node6.getDepth()).isEqualTo(0);
+    assertThat(find(node6, 9).getDepth()).isEqualTo(1);
+    find(root, 4).addChild(node6);
+    assertThat(root.size()).isEqualTo(9);
+    assertThat(root.getHeight()).isEqualTo(4);
+    assertThat(find(root, 2).size()).isEqualTo(6);
+    assertThat(find(root, 9).getDepth()).isEqualTo(4);
+    assertThat(root.size()).isEqualTo(root.toList().size());
+  }
+
+  @Test
+  public void shouldUpdateCountersOnClear() {
+    var root = createTree();
+    find(root, 3).clear();
+    assertThat(root.size()).isEqualTo(5);
+    assertThat(root.getHeight()).isEqualTo(2);
+    root.clear();
+    assertThat(root.size()).isEqualTo(1);
+    assertThat(root.getHeight()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldRejectOtherNodes() {
+    var root = createTree();
+    Assertions.assertThrows(IllegalArgumentException.class, () -> root.addChild(new BTreeNode<>(10)));
+  }
+}
@@ -0,0 +1,55 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.blacksmith.commons.tree.OffHeapTree.FixedWidthCodec;
+import org.blacksmith.commons.tree.traverser.BreadthOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.IterativePostOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OffHeapTreeTest {
+
+  @Test
+  public void shouldCopyTreeAcrossPages() {
+    final TreeNode<Integer> source = StdTraverseTreeFactory.createTree();
+    final OffHeapTree<Integer> tree = OffHeapTree.copyOf(source, FixedWidthCodec.INTEGER, 4);
+    assertThat(tree.size()).isEqualTo(9);
+    assertThat(tree.getAllocatedBytes()).isEqualTo(3 * 4 * 24L);
+    final TreeNode<Integer> root = tree.getRoot();
+    assertThat(root.toDataList(new PreOrderTreeTraverser())).containsExactly(1, 2, 4, 5, 3, 6, 8, 9, 7);
+    assertThat(root.toDataList(new IterativePostOrderTreeTraverser())).containsExactly(4, 5, 2, 8, 9, 6, 7, 3, 1);
+    assertThat(root.toDataList(new BreadthOrderTreeTraverser())).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+    assertThat(root.size()).isEqualTo(9);
+    final TreeNode<Integer> node8 = root.findDescendantWith(8);
+    assertThat(node8.getParent().getData()).isEqualTo(6);
+    assertThat(node8.isDescendantOf(root.getChildren().get(1))).isTrue();
+    assertThat(node8.getParent()).isEqualTo(root.findDescendantWith(6));
+  }
+
+  @Test
+  public void shouldAppendAndUpdate() {
+    final OffHeapTree<Long> tree = OffHeapTree.of(FixedWidthCodec.LONG, 1L, 2);
+    final int child = tree.addChild(OffHeapTree.ROOT, 2L);
+    final int grandChild = tree.addChild(child, 3L);
+    tree.addChild(OffHeapTree.ROOT, 4L);
+    tree.setData(grandChild, 30L);
+    assertThat(tree.getParent(grandChild)).isEqualTo(child);
+    assertThat(tree.getChildCount(OffHeapTree.ROOT)).isEqualTo(2);
+    assertThat(tree.getFirstChild(OffHeapTree.ROOT)).isEqualTo(child);
+    assertThat(tree.getNextSibling(child)).isEqualTo(3);
+    assertThat(tree.getNextSibling(3)).isEqualTo(OffHeapTree.NO_NODE);
+    assertThat(tree.getRoot().toDataList()).containsExactly(1L, 2L, 30L, 4L);
+    assertThat(tree.getNode(grandChild).isLeaf()).isTrue();
+  }
+
+  @Test
+  public void shouldRejectInvalidUse() {
+    final OffHeapTree<Double> tree = OffHeapTree.of(FixedWidthCodec.DOUBLE, 1.0);
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> tree.getData(1));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> tree.addChild(5, 2.0));
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> tree.getRoot().addChildWith(2.0));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> OffHeapTree.of(FixedWidthCodec.DOUBLE, 1.0, 3));
+  }
+}
@@ -0,0 +1,87 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.blacksmith.commons.tree.TreeNode.NodeVisitor;
+import org.blacksmith.commons.tree.traverser.ParallelTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser;
+import org.junit.jupiter.api.Test;
+
+public class ParallelTreeTraverserTest {
+
+  Integer[] PRE_ORDER_EXPECTED = {1, 2, 4, 5, 3, 6, 8, 9, 7};
+
+  @Test
+  public void orderedShouldKeepPreOrder() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    assertThat(tree.toDataList(new ParallelTreeTraverser(1, true))).containsExactly(PRE_ORDER_EXPECTED);
+  }
+
+  @Test
+  public void orderedShouldMatchSequentialOnBigTree() {
+    BTreeNode<Integer> root = BTreeNode.of(0);
+    new TreeFactory<>(Integer::intValue).populateRegular(root, 20_000, 4);
+    List<Integer> expected = root.toDataList(new PreOrderTreeTraverser());
+    assertThat(root.toDataList(new ParallelTreeTraverser(100, true))).isEqualTo(expected);
+    assertThat(root.findDescendantsWith((d) -> d % 3 == 0, new ParallelTreeTraverser(100, true)))
+        .isEqualTo(root.findDescendantsWith((d) -> d % 3 == 0));
+  }
+
+  @Test
+  public void orderedShouldMatchSequentialOnUnbalancedTrees() {
+    final TreeFactory<Integer> factory = new TreeFactory<>(Integer::intValue);
+    BTreeNode<Integer> chain = BTreeNode.of(1);
+    factory.populateChain(chain, 100_000);
+    assertThat(chain.toDataList(new ParallelTreeTraverser(100, true)))
+        .isEqualTo(chain.toDataList(new PreOrderTreeTraverser()));
+    BTreeNode<Integer> flat = BTreeNode.of(1);
+    factory.populateFlat(flat, 100_000);
+    assertThat(flat.toDataList(new ParallelTreeTraverser(100, true)))
+        .isEqualTo(flat.toDataList(new PreOrderTreeTraverser()));
+    BTreeNode<Integer> powerLaw = BTreeNode.of(1);
+    factory.populatePowerLaw(powerLaw, 100_000, 7L);
+    assertThat(powerLaw.toDataList(new ParallelTreeTraverser(100, true)))
+        .isEqualTo(powerLaw.toDataList(new PreOrderTreeTraverser()));
+  }
+
+  @Test
+  public void unorderedShouldVisitAllNodes() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    final Set<Integer> visited = ConcurrentHashMap.newKeySet();
+    new ParallelTreeTraverser(1, false).fullTraverse(tree, (node) -> visited.add(node.getData()));
+    assertThat(visited).containsExactlyInAnyOrder(PRE_ORDER_EXPECTED);
+  }
+
+  @Test
+  public void shouldPruneSubtrees() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    final Set<Integer> visited = ConcurrentHashMap.newKeySet();
+    new ParallelTreeTraverser(1, false).traverse(tree, new NodeVisitor<>() {
+      @Override
+      public void visit(TreeNode<Integer> node) {
+        visited.add(node.getData());
+      }
+
+      @Override
+      public boolean accept(TreeNode<Integer> node) {
+        return node.getData() != 2;
+      }
+
+      @Override
+      public boolean acceptChildren(TreeNode<Integer> node) {
+        return node.getData() != 6;
+      }
+    });
+    assertThat(visited).containsExactlyInAnyOrder(1, 3, 6, 7);
+  }
+
+  @Test
+  public void shouldFindWithPredicate() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    assertThat(tree.findDescendantsWith((d) -> d > 4, new ParallelTreeTraverser(1, true)))
+        .extracting(TreeNode::getData).containsExactly(5, 6, 8, 9, 7);
+  }
+}
@@ -0,0 +1,50 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PersistentTreeTest {
+
+  @Test
+  public void shouldCopyTree() {
+    var tree = PersistentTree.copyOf(StdTraverseTreeFactory.createTree());
+    assertThat(tree.size()).isEqualTo(9);
+    assertThat(tree.getRoot().toDataList()).containsExactly(1, 2, 4, 5, 3, 6, 8, 9, 7);
+    var node6 = tree.getRoot().findDescendantWith(6);
+    assertThat(node6.size()).isEqualTo(3);
+    assertThat(node6.getParent().getData()).isEqualTo(3);
+    assertThat(node6.isDescendantOf(tree.getRoot())).isTrue();
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> node6.addChildWith(10));
+  }
+
+  @Test
+  public void shouldKeepOldVersionsUnchanged() {
+    var v1 = PersistentTree.copyOf(StdTraverseTreeFactory.createTree());
+    var v2 = v1.addChild(v1.getRoot().findDescendantWith(6), 10);
+    var v3 = v2.remove(v2.getRoot().findDescendantWith(2));
+    var v4 = v3.setData(v3.getRoot().findDescendantWith(7), 70);
+    assertThat(v1.getRoot().toDataList()).containsExactly(1, 2, 4, 5, 3, 6, 8, 9, 7);
+    assertThat(v2.getRoot().toDataList()).containsExactly(1, 2, 4, 5, 3, 6, 8, 9, 10, 7);
+    assertThat(v3.getRoot().toDataList()).containsExactly(1, 3, 6, 8, 9, 10, 7);
+    assertThat(v4.getRoot().toDataList()).containsExactly(1, 3, 6, 8, 9, 10, 70);
+    assertThat(v2.size()).isEqualTo(10);
+    assertThat(v3.size()).isEqualTo(7);
+    assertThat(v4.getRoot().findDescendantWith(3).size()).isEqualTo(6);
+  }
+
+  @Test
+  public void shouldShareSubtrees() {
+    var v1 = PersistentTree.copyOf(StdTraverseTreeFactory.createTree());
+    var v2 = v1.addChild(v1.getRoot(), v1.getRoot().findDescendantWith(3));
+    assertThat(v2.size()).isEqualTo(14);
+    assertThat(v2.getRoot().getChildren()).extracting(TreeNode::getData).containsExactly(2, 3, 3);
+    var old6 = v1.getRoot().findDescendantWith(6);
+    var new6 = v2.find(old6);
+    assertThat(new6.getData()).isEqualTo(6);
+    assertThat(new6.getParent().getParent()).isEqualTo(v2.getRoot());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> v2.remove(old6));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> v2.remove(v2.getRoot()));
+  }
+}
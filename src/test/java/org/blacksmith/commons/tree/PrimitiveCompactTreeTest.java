@@ -0,0 +1,58 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class PrimitiveCompactTreeTest {
+
+  @Test
+  public void intTreeShouldTraverseAndSearch() {
+    IntCompactTree tree = IntCompactTree.of(StdTraverseTreeFactory.createTree());
+    assertThat(tree.toDataArray()).containsExactly(1, 2, 4, 5, 3, 6, 8, 9, 7);
+    int node3 = tree.findDescendantWith(IntCompactTree.ROOT, d -> d == 3);
+    assertThat(tree.toDataArray(node3)).containsExactly(3, 6, 8, 9, 7);
+    assertThat(tree.contains(node3, 8)).isTrue();
+    assertThat(tree.contains(node3, 4)).isFalse();
+    int[] found = tree.findDescendantsWith(IntCompactTree.ROOT, d -> d > 6);
+    assertThat(found.length).isEqualTo(3);
+    assertThat(tree.getData(found[0])).isEqualTo(8);
+    assertThat(tree.findDescendantWith(IntCompactTree.ROOT, d -> d > 10)).isEqualTo(IntCompactTree.NO_NODE);
+  }
+
+  @Test
+  public void intTreeVisitorShouldSkipChildren() {
+    IntCompactTree tree = IntCompactTree.of(StdTraverseTreeFactory.createTree());
+    final List<Integer> visited = new ArrayList<>();
+    tree.traverse(IntCompactTree.ROOT, new IntCompactTree.IntNodeVisitor() {
+      @Override
+      public void visit(int index, int data) {
+        visited.add(data);
+      }
+
+      @Override
+      public boolean acceptChildren(int index, int data) {
+        return data != 2 && data != 6;
+      }
+    });
+    assertThat(visited).containsExactly(1, 2, 3, 6, 7);
+  }
+
+  @Test
+  public void longTreeShouldBuildAndSearch() {
+    LongCompactTree tree = new LongCompactTree(0L);
+    int child1 = tree.add(LongCompactTree.ROOT, 10L);
+    tree.add(child1, 11L);
+    int child2 = tree.add(LongCompactTree.ROOT, 20L);
+    tree.add(child2, 21L);
+    assertThat(tree.size()).isEqualTo(5);
+    assertThat(tree.toDataArray()).containsExactly(0L, 10L, 11L, 20L, 21L);
+    assertThat(tree.findDescendantsWith(LongCompactTree.ROOT, d -> d % 10 == 1).length).isEqualTo(2);
+    tree.setData(child2, 30L);
+    assertThat(tree.contains(LongCompactTree.ROOT, 30L)).isTrue();
+    tree.detach(child1);
+    assertThat(tree.toDataArray()).containsExactly(0L, 30L, 21L);
+  }
+}
@@ -30,7 +30,13 @@ package org.blacksmith.commons.tree;
 public class StdTraverseTreeFactory {
 
   public static TreeNode<Integer> createTree() {
-    BTreeNode<Integer> root = new BTreeNode<>(1);
+    return createTree(new BTreeNode<>(1));
+  }
+
+  /**
+   * Adds the descendants of node 1 to the given root.
+   */
+  public static <N extends TreeNode<Integer>> N createTree(N root) {
     final TreeNode<Integer> node2 = root.addChildWith(2);
     node2.addChildWith(4);
     node2.addChildWith(5);
@@ -0,0 +1,63 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TreeAggregatorTest {
+
+  @Test
+  public void shouldAggregateAndRecomputePath() {
+    var root = StdTraverseTreeFactory.createTree();
+    var aggregator = TreeAggregator.of(root, data -> data, Math::max);
+    var node3 = root.findDescendantWith(3);
+    var node6 = root.findDescendantWith(6);
+    assertThat(aggregator.get()).isEqualTo(9);
+    assertThat(aggregator.get(root.findDescendantWith(2))).isEqualTo(5);
+    node6.findDescendantWith(9).setData(0);
+    aggregator.dataChanged(node6.findDescendantWith(0));
+    assertThat(aggregator.get(node3)).isEqualTo(8);
+    node3.removeChild(node6);
+    aggregator.childRemoved(node3, node6);
+    assertThat(aggregator.get()).isEqualTo(7);
+    assertThat(aggregator.get(node6)).isNull();
+    root.findDescendantWith(4).addChild(node6);
+    aggregator.childAdded(node6);
+    assertThat(aggregator.get()).isEqualTo(8);
+    assertThat(aggregator.get(root.findDescendantWith(2))).isEqualTo(8);
+  }
+
+  @Test
+  public void shouldKeepSums() {
+    var root = StdTraverseTreeFactory.createTree();
+    var doubles = DoubleTreeAggregator.of(root, data -> data / 2.0);
+    var longs = LongTreeAggregator.of(root, data -> data);
+    var node3 = root.findDescendantWith(3);
+    var node6 = root.findDescendantWith(6);
+    assertThat(longs.get()).isEqualTo(45L);
+    assertThat(doubles.get()).isEqualTo(22.5);
+    assertThat(longs.get(node3)).isEqualTo(33L);
+    node6.setData(16);
+    longs.dataChanged(node6);
+    doubles.dataChanged(node6);
+    assertThat(longs.get(node3)).isEqualTo(43L);
+    assertThat(doubles.get(node3)).isEqualTo(21.5);
+    node3.removeChild(node6);
+    longs.childRemoved(node3, node6);
+    doubles.childRemoved(node3, node6);
+    assertThat(longs.get()).isEqualTo(22L);
+    assertThat(doubles.get()).isEqualTo(11.0);
+    root.addChild(node6);
+    longs.childAdded(node6);
+    doubles.childAdded(node6);
+    assertThat(longs.get()).isEqualTo(55L);
+    assertThat(longs.get(node6)).isEqualTo(33L);
+    root.setData(11);
+    longs.dataChanged(root);
+    assertThat(longs.get()).isEqualTo(65L);
+    longs.recompute();
+    assertThat(longs.get()).isEqualTo(65L);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> longs.get(BTreeNode.of(1)));
+  }
+}
@@ -0,0 +1,77 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TreeBuilderTest {
+
+  @Test
+  public void shouldBuildTreeFromUnorderedRows() {
+    var root = new TreeBuilder<String>()
+        .add(8, 6, "8")
+        .add(3, 1, "3")
+        .add(1, 0, "1")
+        .add(6, 3, "6")
+        .add(2, 1, "2")
+        .add(4, 2, "4")
+        .add(7, 3, "7")
+        .add(5, 2, "5")
+        .add(9, 6, "9")
+        .build();
+    assertThat(root.getData()).isEqualTo("1");
+    assertThat(root.getParent()).isNull();
+    assertThat(root.toDataList()).containsExactly("1", "3", "6", "8", "9", "7", "2", "4", "5");
+    assertThat(root.findDescendantWith("9").getParent().getData()).isEqualTo("6");
+  }
+
+  @Test
+  public void shouldBuildFromArrays() {
+    long[] ids = {10, 11, 12, 13};
+    long[] parentIds = {0, 10, 10, 12};
+    Integer[] data = {1, 2, 3, 4};
+    var root = TreeBuilder.of(ids, parentIds, data).build();
+    assertThat(root.toDataList()).containsExactly(1, 2, 3, 4);
+    assertThat(root.size()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldBuildForest() {
+    var roots = new TreeBuilder<Integer>(-1, 4)
+        .add(0, -1, 0)
+        .add(1, -1, 1)
+        .add(2, 0, 2)
+        .add(3, 1, 3)
+        .buildForest();
+    assertThat(roots).extracting(TreeNode::getData).containsExactly(0, 1);
+    assertThat(roots.get(1).getChildren()).extracting(TreeNode::getData).containsExactly(3);
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new TreeBuilder<Integer>(-1, 2).add(0, -1, 0).add(1, -1, 1).build());
+  }
+
+  @Test
+  public void shouldDetectInvalidRows() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new TreeBuilder<Integer>().add(1, 0, 1).add(2, 5, 2).build());
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new TreeBuilder<Integer>().add(1, 0, 1).add(1, 0, 2).build());
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new TreeBuilder<Integer>().add(1, 0, 1).add(2, 3, 2).add(3, 2, 3).build());
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new TreeBuilder<Integer>().add(1, 0, 1).add(2, 2, 2).build());
+  }
+
+  @Test
+  public void shouldBuildBigTree() {
+    final int count = 100_000;
+    final TreeBuilder<Integer> builder = new TreeBuilder<>(0, count);
+    for (int i = count; i >= 1; --i) {
+      builder.add(i, i / 2, i);
+    }
+    var root = builder.build();
+    assertThat(root.getData()).isEqualTo(1);
+    assertThat(root.size()).isEqualTo(count);
+    assertThat(root.findDescendantWith(count).getParent().getData()).isEqualTo(count / 2);
+  }
+}
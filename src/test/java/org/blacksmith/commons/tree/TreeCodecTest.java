@@ -0,0 +1,79 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TreeCodecTest {
+
+  private static TreeNode<Long> createTree() {
+    TreeNode<Long> root = BTreeNode.of(1L);
+    final TreeNode<Long> node2 = root.addChildWith(2L);
+    node2.addChildWith(4L);
+    node2.addChildWith(5L);
+    final TreeNode<Long> node3 = root.addChildWith(3L);
+    final TreeNode<Long> node6 = node3.addChildWith(6L);
+    node3.addChildWith(7L);
+    node6.addChildWith(8L);
+    node6.addChildWith(9L);
+    return root;
+  }
+
+  @Test
+  public void shouldEncodeAndDecode() {
+    var codec = TreeCodec.of(TreeCodec.PayloadCodec.LONG);
+    var root = codec.decode(codec.encode(createTree()));
+    assertThat(root.toDataList()).containsExactly(1L, 2L, 4L, 5L, 3L, 6L, 8L, 9L, 7L);
+    assertThat(root.findDescendantWith(8L).getParent().getData()).isEqualTo(6L);
+    assertThat(root.getParent()).isNull();
+  }
+
+  @Test
+  public void shouldViewBufferInPlace() {
+    var codec = TreeCodec.of(TreeCodec.PayloadCodec.LONG);
+    var view = codec.view(ByteBuffer.wrap(codec.encode(createTree())));
+    assertThat(view.toDataList()).containsExactly(1L, 2L, 4L, 5L, 3L, 6L, 8L, 9L, 7L);
+    assertThat(view.size()).isEqualTo(9);
+    var node6 = view.findDescendantWith(6L);
+    assertThat(node6.getChildren()).extracting(TreeNode::getData).containsExactly(8L, 9L);
+    assertThat(node6.getParent().getData()).isEqualTo(3L);
+    assertThat(node6.isDescendantOf(view)).isTrue();
+    assertThat(view.findDescendantWith(7L).isLeaf()).isTrue();
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> node6.addChildWith(10L));
+  }
+
+  @Test
+  public void shouldEncodeStrings() {
+    TreeNode<String> root = BTreeNode.of("root");
+    root.addChildWith("zażółć").addChildWith("");
+    root.addChildWith("b");
+    var codec = TreeCodec.of(TreeCodec.PayloadCodec.STRING);
+    var bytes = codec.encode(root);
+    assertThat(codec.view(ByteBuffer.wrap(bytes)).toDataList()).containsExactly("root", "zażółć", "", "b");
+    assertThat(codec.decode(bytes).toDataList()).containsExactly("root", "zażółć", "", "b");
+  }
+
+  @Test
+  public void shouldMapFile() throws IOException {
+    var codec = TreeCodec.of(TreeCodec.PayloadCodec.LONG);
+    final Path path = Files.createTempFile("tree", ".bin");
+    try {
+      codec.write(createTree(), path);
+      assertThat(codec.map(path).toDataList()).containsExactly(1L, 2L, 4L, 5L, 3L, 6L, 8L, 9L, 7L);
+      assertThat(codec.read(path).size()).isEqualTo(9);
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void shouldRejectInvalidBuffer() {
+    var codec = TreeCodec.of(TreeCodec.PayloadCodec.LONG);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decode(new byte[16]));
+  }
+}
@@ -0,0 +1,151 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TreeDiffTest {
+
+  private static final Function<String, String> KEY = data -> data.substring(0, data.indexOf(':'));
+
+  private static BTreeNode<String> createTree() {
+    BTreeNode<String> root = BTreeNode.of("1:a");
+    final TreeNode<String> node2 = root.addChildWith("2:a");
+    node2.addChildWith("4:a");
+    node2.addChildWith("5:a");
+    final TreeNode<String> node3 = root.addChildWith("3:a");
+    final TreeNode<String> node6 = node3.addChildWith("6:a");
+    node3.addChildWith("7:a");
+    node6.addChildWith("8:a");
+    node6.addChildWith("9:a");
+    return root;
+  }
+
+  private static List<String> describe(TreeNode<String> root) {
+    final List<String> result = new ArrayList<>();
+    for (TreeNode<String> node : root.toList()) {
+      result.add(node.getData() + "<" + (node.getParent() == null ? "" : node.getParent().getData()));
+    }
+    return result;
+  }
+
+  private static BTreeNode<String> copy(TreeNode<String> root) {
+    final BTreeNode<String> copy = BTreeNode.of(root.getData());
+    for (TreeNode<String> child : root.getChildren()) {
+      copy.addChild(copy(child));
+    }
+    return copy;
+  }
+
+  private static void assertPatched(TreeNode<String> oldRoot, TreeNode<String> newRoot) {
+    var patch = TreeDiff.of(KEY).diff(oldRoot, newRoot);
+    var patched = copy(oldRoot);
+    patched.apply(patch);
+    assertThat(describe(patched)).isEqualTo(describe(newRoot));
+  }
+
+  @Test
+  public void shouldProduceEmptyPatchForEqualTrees() {
+    assertThat(TreeDiff.of(KEY).diff(createTree(), createTree()).isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldProduceMinimalEdits() {
+    var oldRoot = createTree();
+    var newRoot = createTree();
+    newRoot.findDescendantWith("7:a").setData("7:b");
+    newRoot.findDescendantWith("2:a").addChildWith("10:a");
+    var node3 = newRoot.findDescendantWith("3:a");
+    node3.removeChild(newRoot.findDescendantWith("6:a"));
+    var node4 = newRoot.findDescendantWith("4:a");
+    newRoot.findDescendantWith("2:a").removeChild(node4);
+    node3.addChild(node4);
+    var patch = TreeDiff.of(KEY).diff(oldRoot, newRoot);
+    assertThat(patch.getEdits()).extracting(edit -> edit.getOperation() + " " + edit.getKey())
+        .containsExactly("INSERT 10", "MOVE 4", "UPDATE 7", "DELETE 6");
+    var insert = patch.getEdits().get(0);
+    assertThat(insert.getParentKey()).isEqualTo("2");
+    assertThat(insert.getAfterKey()).isEqualTo("5");
+    assertPatched(oldRoot, newRoot);
+  }
+
+  @Test
+  public void shouldReorderChildren() {
+    BTreeNode<String> oldRoot = BTreeNode.of("0:a");
+    BTreeNode<String> newRoot = BTreeNode.of("0:a");
+    for (int i = 1; i <= 6; ++i) {
+      oldRoot.addChildWith(i + ":a");
+    }
+    for (int i : new int[] {2, 3, 6, 4, 5, 1}) {
+      newRoot.addChildWith(i + ":a");
+    }
+    var patch = TreeDiff.of(KEY).diff(oldRoot, newRoot);
+    assertThat(patch.getEdits()).extracting(edit -> edit.getOperation() + " " + edit.getKey())
+        .containsExactly("MOVE 6", "MOVE 1");
+    assertPatched(oldRoot, newRoot);
+  }
+
+  @Test
+  public void shouldSwapParentAndChild() {
+    BTreeNode<String> oldRoot = BTreeNode.of("0:a");
+    oldRoot.addChildWith("1:a").addChildWith("2:a").addChildWith("3:a");
+    BTreeNode<String> newRoot = BTreeNode.of("0:a");
+    newRoot.addChildWith("2:a").addChildWith("1:a").addChildWith("3:a");
+    assertPatched(oldRoot, newRoot);
+  }
+
+  @Test
+  public void shouldPatchRandomTrees() {
+    final Random random = new Random(5);
+    for (int round = 0; round < 50; ++round) {
+      final List<BTreeNode<String>> oldNodes = new ArrayList<>();
+      oldNodes.add(BTreeNode.of("0:a"));
+      for (int i = 1; i < 60; ++i) {
+        oldNodes.add(oldNodes.get(random.nextInt(oldNodes.size())).addChildWith(i + ":a"));
+      }
+      final BTreeNode<String> oldRoot = oldNodes.get(0);
+      final BTreeNode<String> newRoot = copy(oldRoot);
+      final List<BTreeNode<String>> newNodes = new ArrayList<>();
+      for (TreeNode<String> node : newRoot.toList()) {
+        newNodes.add((BTreeNode<String>) node);
+      }
+      for (int i = 0; i < 20; ++i) {
+        final BTreeNode<String> node = newNodes.get(1 + random.nextInt(newNodes.size() - 1));
+        final BTreeNode<String> target = newNodes.get(random.nextInt(newNodes.size()));
+        if (node.getParent() == null || target == node || target.isDescendantOf(node)) {
+          continue;
+        }
+        switch (random.nextInt(4)) {
+          case 0:
+            node.getParent().removeChild(node);
+            target.addChild(random.nextInt(target.getChildren().size() + 1), node);
+            break;
+          case 1:
+            node.setData(KEY.apply(node.getData()) + ":b" + i);
+            break;
+          case 2:
+            newNodes.add(target.addChildWith((100 + round * 100 + i) + ":a"));
+            break;
+          default:
+            node.getParent().removeChild(node);
+            break;
+        }
+      }
+      assertPatched(oldRoot, newRoot);
+    }
+  }
+
+  @Test
+  public void shouldRejectInvalidTrees() {
+    var diff = TreeDiff.of(KEY);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> diff.diff(createTree(), BTreeNode.of("2:a")));
+    var duplicated = createTree();
+    duplicated.addChildWith("4:b");
+    Assertions.assertThrows(IllegalArgumentException.class, () -> diff.diff(createTree(), duplicated));
+  }
+}
@@ -2,6 +2,8 @@ package org.blacksmith.commons.tree;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -49,4 +51,66 @@ public class TreeFactoryTest {
     new TreeFactory<>(Integer::intValue).populateRegular(root6, 101, 3);
     assertThat(root6.size()).isEqualTo(103);
   }
+
+  @Test
+  public void treeFactoryTotalShape() {
+    BTreeNode<Integer> root = new BTreeNode<>(1);
+    new TreeFactory<>(Integer::intValue).populateTotal(root, 10, 3);
+    assertThat(root.getChildren()).extracting(TreeNode::getData).containsExactly(2, 3, 4);
+    assertThat(root.getChildren().get(0).getChildren()).extracting(TreeNode::getData).containsExactly(5, 6, 7);
+    assertThat(root.getChildren().get(1).getChildren()).extracting(TreeNode::getData).containsExactly(8, 9, 10);
+    assertThat(root.getChildren().get(2).getChildren()).isEmpty();
+  }
+
+  @Test
+  public void treeFactoryParallel() {
+    final TreeFactory<Integer> factory = new TreeFactory<>(Integer::intValue);
+    BTreeNode<Integer> sequential = new BTreeNode<>(1);
+    factory.populateTotal(sequential, 100_000, 3);
+    BTreeNode<Integer> parallel = new BTreeNode<>(1);
+    factory.populateTotalParallel(parallel, 100_000, 3);
+    assertThat(parallel.size()).isEqualTo(100_000);
+    assertThat(parents(parallel)).isEqualTo(parents(sequential));
+    BTreeNode<Integer> regular = new BTreeNode<>(1);
+    factory.populateRegularParallel(regular, 100_001, 4);
+    assertThat(regular.size()).isEqualTo(100_001);
+  }
+
+  @Test
+  public void treeFactoryNodeSupplier() {
+    final TreeFactory<Integer> factory = new TreeFactory<>(Integer::intValue, MeasuredTreeNode::new);
+    final TreeNode<Integer> root = factory.create(40, 3, factory::populateTotal);
+    assertThat(root).isInstanceOf(MeasuredTreeNode.class);
+    assertThat(root.getData()).isEqualTo(1);
+    assertThat(root.size()).isEqualTo(40);
+    assertThat(root.toList()).allMatch(node -> node instanceof MeasuredTreeNode);
+  }
+
+  @Test
+  public void treeFactoryShapes() {
+    final TreeFactory<Integer> factory = new TreeFactory<>(Integer::intValue);
+    BTreeNode<Integer> chain = new BTreeNode<>(0);
+    factory.populateChain(chain, 100000);
+    assertThat(chain.size()).isEqualTo(100000);
+    assertThat(TreeQueries.of(chain).ancestorAtDepth(chain.findDescendantWith(100000), 0)).isSameAs(chain);
+    BTreeNode<Integer> flat = new BTreeNode<>(0);
+    factory.populateFlat(flat, 100);
+    assertThat(flat.size()).isEqualTo(100);
+    assertThat(flat.getChildren()).hasSize(99);
+    BTreeNode<Integer> powerLaw = new BTreeNode<>(0);
+    factory.populatePowerLaw(powerLaw, 1000, 1L);
+    assertThat(powerLaw.size()).isEqualTo(1000);
+    BTreeNode<Integer> random = new BTreeNode<>(0);
+    factory.populateRandom(random, 1000, 1L);
+    assertThat(random.size()).isEqualTo(1000);
+    BTreeNode<Integer> sameSeed = new BTreeNode<>(0);
+    factory.populateRandom(sameSeed, 1000, 1L);
+    assertThat(parents(sameSeed)).isEqualTo(parents(random));
+  }
+
+  private static List<Integer> parents(TreeNode<Integer> root) {
+    return root.toList().stream()
+        .map(node -> node.getParent() == null ? -1 : node.getParent().getData())
+        .collect(Collectors.toList());
+  }
 }
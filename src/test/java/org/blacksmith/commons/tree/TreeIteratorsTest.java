@@ -0,0 +1,77 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.blacksmith.commons.tree.TreeNode.VisitResult;
+import org.blacksmith.commons.tree.traverser.TreeIterators;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TreeIteratorsTest {
+
+  Integer[] PRE_ORDER_EXPECTED = {1, 2, 4, 5, 3, 6, 8, 9, 7};
+  Integer[] POST_ORDER_EXPECTED = {4, 5, 2, 8, 9, 6, 7, 3, 1};
+  Integer[] BREATH_ORDER_EXPECTED = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+  Integer[] REV_ORDER_EXPECTED = {1, 3, 7, 6, 9, 8, 2, 5, 4};
+
+  private static List<Integer> collect(Iterator<TreeNode<Integer>> it) {
+    List<Integer> result = new ArrayList<>();
+    it.forEachRemaining(node -> result.add(node.getData()));
+    return result;
+  }
+
+  @Test
+  public void shouldIterateInOrder() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    assertThat(collect(tree.iterator(TraverseOrder.PRE))).containsExactly(PRE_ORDER_EXPECTED);
+    assertThat(collect(tree.iterator(TraverseOrder.POST))).containsExactly(POST_ORDER_EXPECTED);
+    assertThat(collect(tree.iterator(TraverseOrder.BREADTH))).containsExactly(BREATH_ORDER_EXPECTED);
+    assertThat(collect(tree.iterator(TraverseOrder.REV))).containsExactly(REV_ORDER_EXPECTED);
+    assertThat(tree.stream(TraverseOrder.POST).map(TreeNode::getData).collect(Collectors.toList()))
+        .containsExactly(POST_ORDER_EXPECTED);
+  }
+
+  @Test
+  public void walkShouldSkipAndTerminate() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    final List<Integer> visited = new ArrayList<>();
+    boolean completed = tree.walk(TraverseOrder.PRE, node -> {
+      visited.add(node.getData());
+      if (node.getData() == 2) {
+        return VisitResult.SKIP_SUBTREE;
+      }
+      return node.getData() == 8 ? VisitResult.TERMINATE : VisitResult.CONTINUE;
+    });
+    assertThat(completed).isFalse();
+    assertThat(visited).containsExactly(1, 2, 3, 6, 8);
+    visited.clear();
+    completed = tree.walk(TraverseOrder.BREADTH, node -> {
+      visited.add(node.getData());
+      return node.getData() == 3 ? VisitResult.SKIP_SUBTREE : VisitResult.CONTINUE;
+    });
+    assertThat(completed).isTrue();
+    assertThat(visited).containsExactly(1, 2, 3, 4, 5);
+  }
+
+  @Test
+  public void postOrderShouldNotSkipChildren() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    var it = TreeIterators.iterator(tree, TraverseOrder.POST);
+    it.next();
+    Assertions.assertThrows(IllegalStateException.class, it::skipChildren);
+  }
+
+  @Test
+  public void searchShouldStopEarly() {
+    TreeNode<Integer> root = new BTreeNode<>(1);
+    root.addChildWith(2).addChildWith(20);
+    root.addChildWith(20);
+    assertThat(root.contains(20)).isTrue();
+    assertThat(root.findDescendantWith(20)).isNull();
+    assertThat(root.findDescendantWith(2).getData()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,75 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import org.blacksmith.commons.tree.TreeMetrics.Operation;
+import org.blacksmith.commons.tree.TreeNode.NodeVisitor;
+import org.blacksmith.commons.tree.traverser.MeteredTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+public class TreeMetricsTest {
+
+  @Test
+  public void shouldCountTraversal() {
+    final TreeMetrics metrics = new TreeMetrics();
+    final MeteredTreeTraverser traverser = new MeteredTreeTraverser(new PreOrderTreeTraverser(), metrics);
+    final TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    final List<Integer> visited = new ArrayList<>();
+    traverser.traverse(tree, new NodeVisitor<Integer>() {
+      @Override
+      public void visit(TreeNode<Integer> node) {
+        visited.add(node.getData());
+      }
+
+      @Override
+      public boolean acceptChildren(TreeNode<Integer> node) {
+        return node.getData() != 3;
+      }
+    });
+    assertThat(visited).containsExactly(1, 2, 4, 5, 3);
+    traverser.fullTraverse(tree, node -> {
+    });
+    final TreeMetrics.Snapshot snapshot = metrics.snapshot();
+    assertThat(snapshot.getNodesVisited()).isEqualTo(14L);
+    assertThat(snapshot.getSubtreesPruned()).isEqualTo(1L);
+    assertThat(snapshot.getCalls(Operation.TRAVERSE)).isEqualTo(2L);
+    assertThat(snapshot.get(Operation.TRAVERSE).getPercentileNanos(100))
+        .isGreaterThan(snapshot.get(Operation.TRAVERSE).getAverageNanos());
+    metrics.reset();
+    assertThat(metrics.snapshot().getNodesVisited()).isEqualTo(0L);
+  }
+
+  @Test
+  public void shouldCountNodeOperations() {
+    final TreeMetrics metrics = new TreeMetrics();
+    final TreeNode<Integer> tree = MeteredTreeNode.of(StdTraverseTreeFactory.createTree(), metrics);
+    assertThat(tree.size()).isEqualTo(9);
+    assertThat(tree.contains(8)).isTrue();
+    assertThat(tree.findDescendantsWith((Predicate<Integer>) d -> d > 7)).hasSize(2);
+    assertThat(tree.findDescendantWith(6).getData()).isEqualTo(6);
+    final TreeMetrics.Snapshot snapshot = metrics.snapshot();
+    assertThat(snapshot.getCalls(Operation.SIZE)).isEqualTo(1L);
+    assertThat(snapshot.getCalls(Operation.CONTAINS)).isEqualTo(1L);
+    assertThat(snapshot.getCalls(Operation.FIND_DESCENDANTS_WITH)).isEqualTo(1L);
+    assertThat(snapshot.getCalls(Operation.FIND_DESCENDANT_WITH)).isEqualTo(1L);
+    assertThat(snapshot.toString()).contains("SIZE: [calls=1");
+    metrics.logTo(LoggerFactory.getLogger(TreeMetricsTest.class));
+  }
+
+  @Test
+  public void shouldNotCountWhenDisabled() {
+    final TreeMetrics metrics = new TreeMetrics();
+    metrics.setEnabled(false);
+    final TreeNode<Integer> tree = MeteredTreeNode.of(StdTraverseTreeFactory.createTree(), metrics);
+    assertThat(tree.size()).isEqualTo(9);
+    new MeteredTreeTraverser(new PreOrderTreeTraverser(), metrics).fullTraverse(tree, node -> {
+    });
+    assertThat(metrics.snapshot().getNodesVisited()).isEqualTo(0L);
+    assertThat(metrics.snapshot().getCalls(Operation.SIZE)).isEqualTo(0L);
+  }
+}
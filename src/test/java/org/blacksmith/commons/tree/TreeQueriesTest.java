@@ -0,0 +1,77 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TreeQueriesTest {
+
+  private static TreeNode<Integer> naiveLca(TreeNode<Integer> u, TreeNode<Integer> v) {
+    final List<TreeNode<Integer>> path = new ArrayList<>();
+    for (TreeNode<Integer> n = u; n != null; n = n.getParent()) {
+      path.add(n);
+    }
+    for (TreeNode<Integer> n = v; n != null; n = n.getParent()) {
+      if (path.contains(n)) {
+        return n;
+      }
+    }
+    return null;
+  }
+
+  @Test
+  public void shouldFindLowestCommonAncestor() {
+    var root = StdTraverseTreeFactory.createTree();
+    var queries = TreeQueries.of(root);
+    assertThat(queries.lowestCommonAncestor(root.findDescendantWith(8), root.findDescendantWith(7)).getData())
+        .isEqualTo(3);
+    assertThat(queries.lowestCommonAncestor(root.findDescendantWith(4), root.findDescendantWith(9)).getData())
+        .isEqualTo(1);
+    assertThat(queries.lowestCommonAncestor(root.findDescendantWith(6), root.findDescendantWith(9)).getData())
+        .isEqualTo(6);
+    assertThat(queries.lowestCommonAncestor(root.findDescendantWith(5), root.findDescendantWith(5)).getData())
+        .isEqualTo(5);
+    assertThat(queries.distance(root.findDescendantWith(4), root.findDescendantWith(9))).isEqualTo(5);
+    assertThat(queries.distance(root.findDescendantWith(6), root.findDescendantWith(9))).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldFindLevelAncestor() {
+    var root = StdTraverseTreeFactory.createTree();
+    var queries = TreeQueries.of(root);
+    var node9 = root.findDescendantWith(9);
+    assertThat(queries.ancestorAtDepth(node9, 0)).isEqualTo(root);
+    assertThat(queries.ancestorAtDepth(node9, 1).getData()).isEqualTo(3);
+    assertThat(queries.ancestorAtDepth(node9, 3)).isEqualTo(node9);
+    assertThat(queries.ancestorAtDepth(node9, 4)).isNull();
+    assertThat(queries.ancestor(node9, 1).getData()).isEqualTo(6);
+    assertThat(queries.ancestor(node9, 3)).isEqualTo(root);
+    assertThat(queries.ancestor(node9, 4)).isNull();
+    Assertions.assertThrows(IllegalArgumentException.class, () -> queries.ancestor(BTreeNode.of(9), 1));
+  }
+
+  @Test
+  public void shouldMatchNaiveQueriesOnRandomTree() {
+    final Random random = new Random(17);
+    final List<TreeNode<Integer>> nodes = new ArrayList<>();
+    nodes.add(BTreeNode.of(0));
+    for (int i = 1; i < 2000; ++i) {
+      nodes.add(nodes.get(random.nextInt(nodes.size())).addChildWith(i));
+    }
+    var queries = TreeQueries.of(nodes.get(0));
+    for (int i = 0; i < 500; ++i) {
+      var u = nodes.get(random.nextInt(nodes.size()));
+      var v = nodes.get(random.nextInt(nodes.size()));
+      var lca = naiveLca(u, v);
+      assertThat(queries.lowestCommonAncestor(u, v)).isEqualTo(lca);
+      assertThat(queries.distance(u, v))
+          .isEqualTo(queries.getDepth(u) + queries.getDepth(v) - 2 * queries.getDepth(lca));
+      var parent = u.getParent();
+      assertThat(queries.ancestor(u, 1)).isEqualTo(parent);
+    }
+  }
+}
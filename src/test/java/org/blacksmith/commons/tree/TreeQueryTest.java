@@ -0,0 +1,68 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class TreeQueryTest {
+
+  private static List<Integer> find(String query, TreeNode<Integer> tree) {
+    final List<Integer> result = new ArrayList<>();
+    TreeQuery.parse(query, Integer::valueOf).find(tree).forEach(node -> result.add(node.getData()));
+    return result;
+  }
+
+  @Test
+  public void shouldFindByParsedQuery() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    assertThat(find("/2", tree)).containsExactly(2);
+    assertThat(find("/4", tree)).isEmpty();
+    assertThat(find("//3/*", tree)).containsExactly(6, 7);
+    assertThat(find("//6/8", tree)).containsExactly(8);
+    assertThat(find("/2//8", tree)).isEmpty();
+    assertThat(find("//{1}*", tree)).containsExactly(2, 3);
+    assertThat(find("//{2}*", tree)).containsExactly(2, 4, 5, 3, 6, 7);
+    assertThat(find("//*//9", tree)).containsExactly(9);
+    assertThat(find("/*/*/*", tree)).containsExactly(8, 9);
+  }
+
+  @Test
+  public void shouldMatchStepParsedToNull() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    tree.getChildren().get(1).getChildren().get(1).setData(null);
+    final TreeQuery<Integer> query = TreeQuery.parse("//none",
+        name -> name.equals("none") ? null : Integer.valueOf(name));
+    assertThat(query.find(tree)).extracting(TreeNode::getData).containsExactly((Integer) null);
+    assertThat(query.find(tree.getChildren().get(0))).isEmpty();
+  }
+
+  @Test
+  public void shouldFindByBuiltQuery() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    final TreeQuery<Integer> query = TreeQuery.<Integer>builder()
+        .descendant(d -> d > 1)
+        .child(d -> d % 2 == 0)
+        .where(TreeNode::isLeaf)
+        .build();
+    assertThat(query.find(tree)).extracting(TreeNode::getData).containsExactly(4, 8);
+    assertThat(query.findFirst(tree).getData()).isEqualTo(4);
+    assertThat(query.toString()).isEqualTo("//?/?[?]");
+    final TreeQuery<Integer> limited = TreeQuery.<Integer>builder().descendant(d -> d == 3).descendant(d -> true, 1)
+        .build();
+    assertThat(limited.find(tree)).extracting(TreeNode::getData).containsExactly(6, 7);
+    assertThat(limited.find(tree.getChildren().get(0))).isEmpty();
+  }
+
+  @Test
+  public void shouldRejectInvalidQuery() {
+    assertThrows(IllegalArgumentException.class, () -> TreeQuery.parse("", Integer::valueOf));
+    assertThrows(IllegalArgumentException.class, () -> TreeQuery.parse("1", Integer::valueOf));
+    assertThrows(IllegalArgumentException.class, () -> TreeQuery.parse("//", Integer::valueOf));
+    assertThrows(IllegalArgumentException.class, () -> TreeQuery.parse("//{x}1", Integer::valueOf));
+    assertThrows(IllegalArgumentException.class, () -> TreeQuery.parse("//{0}1", Integer::valueOf));
+    assertThrows(IllegalStateException.class, () -> TreeQuery.<Integer>builder().build());
+  }
+}
@@ -0,0 +1,89 @@
+package org.blacksmith.commons.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import org.blacksmith.commons.tree.traverser.BreadthOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.IterativePostOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.ParallelTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PostOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeSpliterator;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser;
+import org.blacksmith.commons.tree.traverser.PreOrderTreeTraverser2;
+import org.blacksmith.commons.tree.traverser.RevOrderTreeTraverser;
+import org.junit.jupiter.api.Test;
+
+public class TreeStreamTest {
+
+  Integer[] PRE_ORDER_EXPECTED = {1, 2, 4, 5, 3, 6, 8, 9, 7};
+  Integer[] REV_ORDER_EXPECTED = {1, 3, 7, 6, 9, 8, 2, 5, 4};
+
+  @Test
+  public void shouldStreamInPreOrder() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    assertThat(tree.stream().map(TreeNode::getData).collect(Collectors.toList())).containsExactly(PRE_ORDER_EXPECTED);
+    assertThat(tree.stream(new RevOrderTreeTraverser()).map(TreeNode::getData).collect(Collectors.toList()))
+        .containsExactly(REV_ORDER_EXPECTED);
+  }
+
+  @Test
+  public void shouldShortCircuit() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    assertThat(tree.stream().map(TreeNode::getData).filter(d -> d > 4).findFirst().orElse(null)).isEqualTo(5);
+    assertThat(tree.stream().limit(3).map(TreeNode::getData).collect(Collectors.toList())).containsExactly(1, 2, 4);
+  }
+
+  @Test
+  public void traverserStreamShouldKeepTraverserOrder() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    for (TreeNode.TreeTraverser traverser : List.of(new PreOrderTreeTraverser(), new PreOrderTreeTraverser2(),
+        new PostOrderTreeTraverser(), new IterativePostOrderTreeTraverser(), new RevOrderTreeTraverser(),
+        new BreadthOrderTreeTraverser(), new ParallelTreeTraverser(1, true))) {
+      assertThat(tree.stream(traverser).map(TreeNode::getData).collect(Collectors.toList()))
+          .isEqualTo(tree.toDataList(traverser));
+    }
+  }
+
+  @Test
+  public void traverserStreamShouldReadLazily() {
+    final List<Integer> read = new ArrayList<>();
+    BTreeNode<Integer> root = new BTreeNode<>(1) {
+      @Override
+      public List<TreeNode<Integer>> getChildren() {
+        read.add(getData());
+        return super.getChildren();
+      }
+    };
+    root.addChildWith(2).addChildWith(4);
+    root.addChildWith(3);
+    assertThat(root.stream(new PreOrderTreeTraverser()).map(TreeNode::getData).findFirst().orElse(null))
+        .isEqualTo(1);
+    assertThat(read).isEmpty();
+  }
+
+  @Test
+  public void parallelStreamShouldKeepOrder() {
+    BTreeNode<Integer> root = BTreeNode.of(0);
+    new TreeFactory<>(Integer::intValue).populateRegular(root, 20_000, 3);
+    List<Integer> expected = root.toDataList(new PreOrderTreeTraverser());
+    assertThat(root.parallelStream().map(TreeNode::getData).collect(Collectors.toList())).isEqualTo(expected);
+    assertThat(root.parallelStream().filter(n -> n.getData() % 5 == 0).count())
+        .isEqualTo(expected.stream().filter(d -> d % 5 == 0).count());
+  }
+
+  @Test
+  public void splitShouldCoverWholeTree() {
+    TreeNode<Integer> tree = StdTraverseTreeFactory.createTree();
+    Spliterator<TreeNode<Integer>> rest = new PreOrderTreeSpliterator<>(tree);
+    List<Integer> result = new ArrayList<>();
+    Spliterator<TreeNode<Integer>> prefix;
+    while ((prefix = rest.trySplit()) != null) {
+      prefix.forEachRemaining(n -> result.add(n.getData()));
+    }
+    rest.forEachRemaining(n -> result.add(n.getData()));
+    assertThat(result).containsExactly(PRE_ORDER_EXPECTED);
+  }
+}